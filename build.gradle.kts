@@ -26,6 +26,10 @@ val javaTarget: String by project
 val ap by sourceSets.registering {
     compileClasspath += sourceSets.main.get().compileClasspath + sourceSets.main.get().output
 }
+val jmh by sourceSets.registering {
+    compileClasspath += sourceSets.main.get().compileClasspath + sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().runtimeClasspath + sourceSets.main.get().output
+}
 
 configurations {
     sequenceOf(apiElements, runtimeElements).forEach {
@@ -128,6 +132,11 @@ dependencies {
     testRuntimeOnly(libs.junit.engine)
     testRuntimeOnly(libs.junit.launcher)
     testImplementation(libs.mockito)
+    testImplementation(ap.get().output)
+
+    // Benchmarks
+    jmh.get().implementationConfigurationName(libs.jmh.core)
+    jmh.get().annotationProcessorConfigurationName(libs.jmh.generator)
 }
 
 tasks {
@@ -200,6 +209,97 @@ tasks {
         }
     }
 
+    named(jmh.get().compileJavaTaskName, JavaCompile::class) {
+        options.errorprone.excludedPaths = ".*/generated/.*" // JMH generated harness code
+    }
+
+    // Benchmarks
+    // Run with `./gradlew jmh`, optionally filtered with `-PjmhInclude=<regex>`.
+    // `jmhBaseline` records the current results into src/jmh/baseline.json, and
+    // must be run on the reference machine so that runs stay comparable. `jmhCheck` fails
+    // when a benchmark's confidence interval falls more than `-PjmhThreshold`
+    // (default 0.10, i.e. 10%) below the baseline's interval, when a baseline
+    // benchmark is missing from the run, or when there is no baseline at all.
+    val jmhResults = project.layout.buildDirectory.file("reports/jmh/results.json")
+    val jmhBaselineFile = project.layout.projectDirectory.file("src/jmh/baseline.json")
+
+    val runJmh = register("jmh", JavaExec::class) {
+        group = "benchmark"
+        description = "Runs the JMH benchmarks"
+        classpath = jmh.get().runtimeClasspath
+        mainClass = "org.openjdk.jmh.Main"
+        outputs.file(jmhResults)
+        outputs.upToDateWhen { false }
+        args("-rf", "json", "-rff", jmhResults.get().asFile.absolutePath)
+        providers.gradleProperty("jmhInclude").orNull?.let { args(it) }
+        doFirst {
+            jmhResults.get().asFile.parentFile.mkdirs()
+        }
+    }
+
+    register("jmhBaseline") {
+        group = "benchmark"
+        description = "Records the latest JMH results as the committed baseline"
+        dependsOn(runJmh)
+        inputs.file(jmhResults)
+        doLast {
+            jmhResults.get().asFile.copyTo(jmhBaselineFile.asFile, overwrite = true)
+        }
+    }
+
+    register("jmhCheck") {
+        group = "benchmark"
+        description = "Compares the latest JMH results against the committed baseline"
+        dependsOn(runJmh)
+        val threshold = providers.gradleProperty("jmhThreshold").map(String::toDouble).orElse(0.10)
+        inputs.file(jmhResults)
+        doLast {
+            val baselineFile = jmhBaselineFile.asFile
+            if (!baselineFile.exists()) {
+                throw GradleException("No JMH baseline found at $baselineFile, run jmhBaseline to record one")
+            }
+            // The interval JMH reports for each benchmark, as (lower, upper) bounds
+            fun intervals(file: File): Map<String, Pair<Double, Double>> {
+                @Suppress("UNCHECKED_CAST")
+                val runs = groovy.json.JsonSlurper().parse(file) as List<Map<String, Any>>
+                return runs.associate { run ->
+                    @Suppress("UNCHECKED_CAST")
+                    val params = (run["params"] as Map<String, Any>?)?.entries?.joinToString(",", "[", "]") { "${it.key}=${it.value}" } ?: ""
+                    @Suppress("UNCHECKED_CAST")
+                    val metric = run["primaryMetric"] as Map<String, Any>
+                    val score = (metric["score"] as Number).toDouble()
+                    // scoreError is NaN when there were too few iterations to compute it
+                    val error = (metric["scoreError"] as? Number)?.toDouble()?.takeUnless(Double::isNaN) ?: 0.0
+                    (run["benchmark"] as String) + params to (score - error to score + error)
+                }
+            }
+            val baseline = intervals(baselineFile)
+            val current = intervals(jmhResults.get().asFile)
+            val include = providers.gradleProperty("jmhInclude").orNull?.toRegex()
+            val missing = baseline.keys.filter { name ->
+                name !in current && (include == null || include.containsMatchIn(name.substringBefore('[')))
+            }
+            if (missing.isNotEmpty()) {
+                throw GradleException("Baseline benchmarks are missing from the run, record a new baseline with jmhBaseline if they were " +
+                    "renamed or removed:\n  " + missing.joinToString("\n  "))
+            }
+            current.keys.filter { it !in baseline }.forEach { name ->
+                logger.warn("Benchmark {} is not in the baseline and was not checked", name)
+            }
+            val regressions = current.mapNotNull { (name, interval) ->
+                val expected = baseline[name] ?: return@mapNotNull null
+                if (interval.second < expected.first * (1.0 - threshold.get())) {
+                    "%s: %.3f..%.3f ops/us (baseline %.3f..%.3f ops/us)".format(name, interval.first, interval.second, expected.first, expected.second)
+                } else {
+                    null
+                }
+            }
+            if (regressions.isNotEmpty()) {
+                throw GradleException("Benchmark throughput regressed past the threshold:\n  " + regressions.joinToString("\n  "))
+            }
+        }
+    }
+
 //
 //    val shadowJar by registering(ShadowJar::class) {
 //        archiveClassifier.set("shaded")
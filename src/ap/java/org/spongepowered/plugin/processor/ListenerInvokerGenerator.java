@@ -0,0 +1,462 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.plugin.processor;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.GeneratedEventListeners;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.ContextValue;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Last;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.data.Has;
+import org.spongepowered.api.event.filter.data.Supports;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a {@link GeneratedEventListeners} implementation for a listener
+ * class, which evaluates the parameter filters of each listener method in
+ * plain code and calls the method directly.
+ *
+ * <p>Only a subset of the filter annotations is supported. If any listener
+ * method of a class cannot be generated, nothing is generated for the whole
+ * class and the implementation falls back to runtime generation.</p>
+ */
+final class ListenerInvokerGenerator {
+
+    private static final String LISTENER_ANNOTATION = Listener.class.getName();
+    private static final String IS_CANCELLED_ANNOTATION = IsCancelled.class.getName();
+    private static final String INCLUDE_ANNOTATION = Include.class.getName();
+    private static final String EXCLUDE_ANNOTATION = Exclude.class.getName();
+    private static final String FIRST_ANNOTATION = First.class.getName();
+    private static final String LAST_ANNOTATION = Last.class.getName();
+    private static final String ROOT_ANNOTATION = Root.class.getName();
+    private static final String CONTEXT_VALUE_ANNOTATION = ContextValue.class.getName();
+    private static final String GETTER_ANNOTATION = Getter.class.getName();
+    private static final String HAS_ANNOTATION = Has.class.getName();
+    private static final String SUPPORTS_ANNOTATION = Supports.class.getName();
+    private static final String FILTER_PACKAGE = "org.spongepowered.api.event.filter.";
+
+    private final ProcessingEnvironment env;
+
+    ListenerInvokerGenerator(final ProcessingEnvironment env) {
+        this.env = env;
+    }
+
+    /**
+     * Generates the listeners class for the given listener class, if all of
+     * its listener methods are supported.
+     *
+     * @param listenerClass The listener class
+     * @param methods The listener methods declared in the class
+     */
+    void generate(final TypeElement listenerClass, final List<ExecutableElement> methods) {
+        if (!this.isAccessible(listenerClass) || !listenerClass.getTypeParameters().isEmpty()) {
+            return;
+        }
+        final List<String> registrations = new ArrayList<>();
+        for (final ExecutableElement method : methods) {
+            final @Nullable String registration = this.registration(method);
+            if (registration == null) {
+                this.env.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "Listener method uses filters that cannot be generated, the listeners of "
+                        + listenerClass.getSimpleName() + " will be generated at runtime", method);
+                return;
+            }
+            registrations.add(registration);
+        }
+
+        final PackageElement pkg = this.env.getElementUtils().getPackageOf(listenerClass);
+        final String binaryName = this.env.getElementUtils().getBinaryName(listenerClass).toString();
+        final String simpleName = (pkg.isUnnamed() ? binaryName : binaryName.substring(pkg.getQualifiedName().length() + 1))
+            + GeneratedEventListeners.CLASS_SUFFIX;
+        final String listenerType = listenerClass.getQualifiedName().toString();
+
+        final StringBuilder source = new StringBuilder();
+        if (!pkg.isUnnamed()) {
+            source.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(ListenerProcessor.class.getName()).append("\")\n");
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        source.append("public final class ").append(simpleName)
+            .append(" implements org.spongepowered.api.event.GeneratedEventListeners<").append(listenerType).append("> {\n\n");
+        source.append("    public ").append(simpleName).append("() {\n    }\n\n");
+        source.append("    @Override\n");
+        source.append("    public java.util.List<org.spongepowered.api.event.EventListenerRegistration<?>> registrations(")
+            .append("final org.spongepowered.plugin.PluginContainer plugin, final ").append(listenerType).append(" listener) {\n");
+        source.append("        return java.util.List.of(");
+        for (int i = 0; i < registrations.size(); i++) {
+            source.append(i == 0 ? "\n" : ",\n").append(registrations.get(i));
+        }
+        source.append("\n        );\n    }\n\n");
+        source.append("    private static boolean filter(final Object value, final boolean inverse, final Class<?>... types) {\n");
+        source.append("        for (final Class<?> type : types) {\n");
+        source.append("            if (type.isInstance(value)) {\n");
+        source.append("                return !inverse;\n");
+        source.append("            }\n");
+        source.append("        }\n");
+        source.append("        return inverse;\n");
+        source.append("    }\n\n");
+        source.append("}\n");
+
+        final String generatedName = pkg.isUnnamed() ? simpleName : pkg.getQualifiedName() + "." + simpleName;
+        try {
+            final JavaFileObject file = this.env.getFiler().createSourceFile(generatedName, listenerClass);
+            try (final Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (final IOException ex) {
+            this.env.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write generated listeners: " + ex.getMessage(), listenerClass);
+        }
+    }
+
+    private boolean isAccessible(final TypeElement type) {
+        Element current = type;
+        while (current.getKind().isClass() || current.getKind().isInterface()) {
+            final TypeElement element = (TypeElement) current;
+            if (element.getNestingKind() == NestingKind.LOCAL || element.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            current = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private @Nullable String registration(final ExecutableElement method) {
+        if (method.getModifiers().contains(Modifier.PRIVATE) || !method.getTypeParameters().isEmpty()) {
+            return null;
+        }
+        final List<? extends VariableElement> parameters = method.getParameters();
+        final TypeMirror eventType = parameters.get(0).asType();
+        if (!this.isConcrete(eventType)) {
+            return null;
+        }
+
+        final StringBuilder body = new StringBuilder();
+        String order = "DEFAULT";
+        String beforeModifications = "false";
+        String async = "false";
+        // Listeners are not called for cancelled events by default
+        String cancelled = "FALSE";
+        for (final AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            final String name = this.binaryName(annotation);
+            final Map<? extends ExecutableElement, ? extends AnnotationValue> values = this.env.getElementUtils().getElementValuesWithDefaults(annotation);
+            if (name.equals(ListenerInvokerGenerator.LISTENER_ANNOTATION)) {
+                order = ((VariableElement) this.value(values, "order").getValue()).getSimpleName().toString();
+                beforeModifications = this.value(values, "beforeModifications").getValue().toString();
+                async = this.value(values, "async").getValue().toString();
+            } else if (name.equals(ListenerInvokerGenerator.IS_CANCELLED_ANNOTATION)) {
+                cancelled = ((VariableElement) this.value(values, "value").getValue()).getSimpleName().toString();
+            } else if (name.equals(ListenerInvokerGenerator.INCLUDE_ANNOTATION) || name.equals(ListenerInvokerGenerator.EXCLUDE_ANNOTATION)) {
+                final String check = this.instanceOfAny("event", this.classes(this.value(values, "value")));
+                if (name.equals(ListenerInvokerGenerator.INCLUDE_ANNOTATION)) {
+                    this.returnIf(body, "!(" + check + ")");
+                } else {
+                    this.returnIf(body, check);
+                }
+            } else if (name.startsWith(ListenerInvokerGenerator.FILTER_PACKAGE)) {
+                return null;
+            }
+        }
+        if (cancelled.equals("FALSE")) {
+            this.returnIf(body, "event instanceof org.spongepowered.api.event.Cancellable && ((org.spongepowered.api.event.Cancellable) event).isCancelled()");
+        } else if (cancelled.equals("TRUE")) {
+            this.returnIf(body, "event instanceof org.spongepowered.api.event.Cancellable && !((org.spongepowered.api.event.Cancellable) event).isCancelled()");
+        }
+
+        final StringBuilder arguments = new StringBuilder("event");
+        for (int i = 1; i < parameters.size(); i++) {
+            final String variable = "p" + i;
+            if (!this.parameter(body, (DeclaredType) eventType, parameters.get(i), variable)) {
+                return null;
+            }
+            arguments.append(", ").append(variable);
+        }
+        body.append("                    listener.").append(method.getSimpleName()).append("(").append(arguments).append(");\n");
+
+        return "            org.spongepowered.api.event.EventListenerRegistration.builder(new io.leangen.geantyref.TypeToken<"
+            + this.render(eventType) + ">() {})\n"
+            + "                .plugin(plugin)\n"
+            + "                .order(org.spongepowered.api.event.Order." + order + ")\n"
+            + "                .beforeModifications(" + beforeModifications + ")\n"
+            + "                .async(" + async + ")\n"
+            + "                .listener(event -> {\n"
+            + body
+            + "                })\n"
+            + "                .build()";
+    }
+
+    /**
+     * Appends the code resolving a single listener parameter to the body.
+     *
+     * @return Whether the parameter is supported
+     */
+    private boolean parameter(final StringBuilder body, final DeclaredType eventType, final VariableElement parameter, final String variable) {
+        final TypeMirror type = parameter.asType();
+        @Nullable AnnotationMirror source = null;
+        final List<AnnotationMirror> dataFilters = new ArrayList<>();
+        for (final AnnotationMirror annotation : parameter.getAnnotationMirrors()) {
+            final String name = this.binaryName(annotation);
+            if (name.equals(ListenerInvokerGenerator.HAS_ANNOTATION) || name.equals(ListenerInvokerGenerator.SUPPORTS_ANNOTATION)) {
+                dataFilters.add(annotation);
+            } else if (name.equals(ListenerInvokerGenerator.FIRST_ANNOTATION) || name.equals(ListenerInvokerGenerator.LAST_ANNOTATION)
+                || name.equals(ListenerInvokerGenerator.ROOT_ANNOTATION) || name.equals(ListenerInvokerGenerator.CONTEXT_VALUE_ANNOTATION)
+                || name.equals(ListenerInvokerGenerator.GETTER_ANNOTATION)) {
+                if (source != null) {
+                    return false;
+                }
+                source = annotation;
+            } else if (name.startsWith(ListenerInvokerGenerator.FILTER_PACKAGE)) {
+                return false;
+            }
+        }
+        if (source == null) {
+            return false;
+        }
+
+        final String name = this.binaryName(source);
+        final Map<? extends ExecutableElement, ? extends AnnotationValue> values = this.env.getElementUtils().getElementValuesWithDefaults(source);
+        if (name.equals(ListenerInvokerGenerator.GETTER_ANNOTATION)) {
+            if (!this.getter(body, eventType, type, this.value(values, "value").getValue().toString(), variable)) {
+                return false;
+            }
+        } else {
+            // cause and context filters only resolve plain class types
+            if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+                return false;
+            }
+            final String typeName = this.render(type);
+            final String typeFilter = this.typeFilter(values, variable);
+            if (name.equals(ListenerInvokerGenerator.FIRST_ANNOTATION) || name.equals(ListenerInvokerGenerator.LAST_ANNOTATION)) {
+                final boolean first = name.equals(ListenerInvokerGenerator.FIRST_ANNOTATION);
+                if (typeFilter.isEmpty()) {
+                    body.append("                    final ").append(typeName).append(" ").append(variable).append(" = event.cause().")
+                        .append(first ? "first" : "last").append("(").append(typeName).append(".class).orElse(null);\n");
+                } else {
+                    final String candidates = variable + "Candidates";
+                    body.append("                    final java.util.List<").append(typeName).append("> ").append(candidates)
+                        .append(" = event.cause().allOf(").append(typeName).append(".class);\n");
+                    body.append("                    ").append(typeName).append(" ").append(variable).append(" = null;\n");
+                    body.append("                    for (int i = 0; i < ").append(candidates).append(".size(); i++) {\n");
+                    body.append("                        final ").append(typeName).append(" candidate = ").append(candidates).append(".get(")
+                        .append(first ? "i" : candidates + ".size() - 1 - i").append(");\n");
+                    body.append("                        if (").append(this.typeFilter(values, "candidate")).append(") {\n");
+                    body.append("                            ").append(variable).append(" = candidate;\n");
+                    body.append("                            break;\n");
+                    body.append("                        }\n");
+                    body.append("                    }\n");
+                }
+                this.returnIf(body, variable + " == null");
+            } else {
+                final String value = variable + "Value";
+                if (name.equals(ListenerInvokerGenerator.ROOT_ANNOTATION)) {
+                    body.append("                    final Object ").append(value).append(" = event.cause().root();\n");
+                } else {
+                    body.append("                    final Object ").append(value)
+                        .append(" = event.context().get(org.spongepowered.api.event.EventContextKeys.")
+                        .append(this.value(values, "value").getValue()).append(").orElse(null);\n");
+                }
+                this.returnIf(body, "!(" + value + " instanceof " + typeName + ")");
+                body.append("                    final ").append(typeName).append(" ").append(variable).append(" = (").append(typeName).append(") ")
+                    .append(value).append(";\n");
+                if (!typeFilter.isEmpty()) {
+                    this.returnIf(body, "!" + typeFilter);
+                }
+            }
+        }
+
+        for (final AnnotationMirror filter : dataFilters) {
+            final Map<? extends ExecutableElement, ? extends AnnotationValue> filterValues = this.env.getElementUtils().getElementValuesWithDefaults(filter);
+            final String key = this.render(this.env.getTypeUtils().erasure((TypeMirror) this.value(filterValues, "container").getValue()))
+                + "." + this.value(filterValues, "value").getValue();
+            final String check = this.binaryName(filter).equals(ListenerInvokerGenerator.HAS_ANNOTATION)
+                ? variable + ".get(" + key + ").isPresent()"
+                : variable + ".supports(" + key + ")";
+            this.returnIf(body, check + " == " + this.value(filterValues, "inverse").getValue());
+        }
+        return true;
+    }
+
+    private boolean getter(final StringBuilder body, final DeclaredType eventType, final TypeMirror type, final String getter, final String variable) {
+        final TypeElement event = (TypeElement) eventType.asElement();
+        @Nullable ExecutableElement method = null;
+        for (final Element member : this.env.getElementUtils().getAllMembers(event)) {
+            if (member.getKind() == ElementKind.METHOD && member.getSimpleName().contentEquals(getter)
+                && ((ExecutableElement) member).getParameters().isEmpty()) {
+                method = (ExecutableElement) member;
+                break;
+            }
+        }
+        if (method == null) {
+            return false;
+        }
+        final TypeMirror returnType = ((ExecutableType) this.env.getTypeUtils().asMemberOf(eventType, method)).getReturnType();
+        final String typeName = this.render(type);
+        if (type.getKind().isPrimitive()) {
+            body.append("                    final ").append(typeName).append(" ").append(variable).append(" = event.").append(getter).append("();\n");
+            return true;
+        }
+        final String value = variable + "Value";
+        final boolean unwrap = this.isOptional(returnType) && !this.isOptional(type);
+        body.append("                    final Object ").append(value).append(" = event.").append(getter).append("()")
+            .append(unwrap ? ".orElse(null)" : "").append(";\n");
+        this.returnIf(body, "!(" + value + " instanceof " + this.render(this.env.getTypeUtils().erasure(type)) + ")");
+        body.append("                    final ").append(typeName).append(" ").append(variable).append(" = (").append(typeName).append(") ")
+            .append(value).append(";\n");
+        return true;
+    }
+
+    private boolean isOptional(final TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+            && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals("java.util.Optional");
+    }
+
+    private boolean isConcrete(final TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        for (final TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+            if (argument.getKind() != TypeKind.DECLARED && argument.getKind() != TypeKind.WILDCARD) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String typeFilter(final Map<? extends ExecutableElement, ? extends AnnotationValue> values, final String subject) {
+        final List<String> classes = this.classes(this.value(values, "typeFilter"));
+        if (classes.isEmpty()) {
+            return "";
+        }
+        return "filter(" + subject + ", " + this.value(values, "inverse").getValue() + ", " + String.join(", ", classes) + ")";
+    }
+
+    private List<String> classes(final AnnotationValue value) {
+        @SuppressWarnings("unchecked") final List<? extends AnnotationValue> values = (List<? extends AnnotationValue>) value.getValue();
+        final List<String> classes = new ArrayList<>();
+        for (final AnnotationValue type : values) {
+            classes.add(this.render(this.env.getTypeUtils().erasure((TypeMirror) type.getValue())) + ".class");
+        }
+        return classes;
+    }
+
+    private String instanceOfAny(final String variable, final List<String> classes) {
+        final List<String> checks = new ArrayList<>();
+        for (final String clazz : classes) {
+            checks.add(variable + " instanceof " + clazz.substring(0, clazz.length() - ".class".length()));
+        }
+        return checks.isEmpty() ? "false" : String.join(" || ", checks);
+    }
+
+    private void returnIf(final StringBuilder body, final String condition) {
+        body.append("                    if (").append(condition).append(") {\n");
+        body.append("                        return;\n");
+        body.append("                    }\n");
+    }
+
+    private AnnotationValue value(final Map<? extends ExecutableElement, ? extends AnnotationValue> values, final String name) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        throw new IllegalArgumentException("No annotation value named " + name);
+    }
+
+    /**
+     * Renders a type as source code, without any type annotations.
+     */
+    private String render(final TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED: {
+                final DeclaredType declared = (DeclaredType) type;
+                final StringBuilder builder = new StringBuilder(((TypeElement) declared.asElement()).getQualifiedName());
+                if (!declared.getTypeArguments().isEmpty()) {
+                    final List<String> arguments = new ArrayList<>();
+                    for (final TypeMirror argument : declared.getTypeArguments()) {
+                        arguments.add(this.render(argument));
+                    }
+                    builder.append('<').append(String.join(", ", arguments)).append('>');
+                }
+                return builder.toString();
+            }
+            case WILDCARD: {
+                final WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    return "? extends " + this.render(wildcard.getExtendsBound());
+                }
+                if (wildcard.getSuperBound() != null) {
+                    return "? super " + this.render(wildcard.getSuperBound());
+                }
+                return "?";
+            }
+            case ARRAY:
+                return this.render(((ArrayType) type).getComponentType()) + "[]";
+            default:
+                if (type.getKind().isPrimitive()) {
+                    return type.getKind().name().toLowerCase(Locale.ROOT);
+                }
+                return type.toString();
+        }
+    }
+
+    private String binaryName(final AnnotationMirror annotation) {
+        return this.env.getElementUtils().getBinaryName((TypeElement) annotation.getAnnotationType().asElement()).toString();
+    }
+
+}
@@ -31,8 +31,10 @@
 import org.spongepowered.api.event.filter.type.Exclude;
 import org.spongepowered.api.event.filter.type.Include;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -67,6 +69,8 @@ public class ListenerProcessor extends AbstractProcessor {
     private static final String INCLUDE_ANNOTATION = Include.class.getName();
     private static final String EXCLUDE_ANNOTATION = Exclude.class.getName();
 
+    private boolean errored;
+
     @Override
     public Set<String> getSupportedAnnotationTypes() {
         final Set<String> types = new HashSet<>(super.getSupportedAnnotationTypes());
@@ -79,9 +83,11 @@ public Set<String> getSupportedAnnotationTypes() {
     @Override
     public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
         if (ProcessorUtils.contains(annotations, Listener.class)) {
+            final Map<TypeElement, List<ExecutableElement>> listenerClasses = new LinkedHashMap<>();
+            this.errored = false;
             for (final Element e : roundEnv.getElementsAnnotatedWith(Listener.class)) {
                 if (e.getKind() != ElementKind.METHOD) {
-                    this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Invalid element of type " + e.getKind() + " annotated with @Listener", e);
+                    this.error("Invalid element of type " + e.getKind() + " annotated with @Listener", e);
                     continue;
                 }
                 final ExecutableElement method = (ExecutableElement) e;
@@ -112,10 +118,19 @@ public boolean process(final Set<? extends TypeElement> annotations, final Round
                     for (final AnnotationMirror annotation : method.getAnnotationMirrors()) {
                         final String name = this.processingEnv.getElementUtils()
                             .getBinaryName((TypeElement) annotation.getAnnotationType().asElement()).toString();
-                        if (name.equals(ListenerProcessor.IS_CANCELLED_ANNOTATION)) {
+                        final TypeElement cancellable =
+                            this.processingEnv.getElementUtils().getTypeElement("org.spongepowered.api.event.Cancellable");
+                        if (name.equals(ListenerProcessor.LISTENER_ANNOTATION_CLASS)) {
+                            // asynchronous listeners run after the outcome of the event was decided
+                            for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                                : annotation.getElementValues().entrySet()) {
+                                if (entry.getKey().getSimpleName().contentEquals("async") && Boolean.TRUE.equals(entry.getValue().getValue())
+                                    && cancellable != null && types.isAssignable(eventType, cancellable.asType())) {
+                                    this.error("An asynchronous listener cannot listen to a Cancellable event", method, annotation, entry.getValue());
+                                }
+                            }
+                        } else if (name.equals(ListenerProcessor.IS_CANCELLED_ANNOTATION)) {
                             // ensure the event parameter inherits from Cancellable
-                            final TypeElement cancellable =
-                                this.processingEnv.getElementUtils().getTypeElement("org.spongepowered.api.event.Cancellable");
                             if (cancellable != null && !types.isAssignable(eventType, cancellable.asType())) {
                                 this.error("A listener for a non-Cancellable method cannot be annotated with @IsCancelled", method);
                             }
@@ -147,6 +162,21 @@ public boolean process(final Set<? extends TypeElement> annotations, final Round
                 for (int i = 1; i < parameters.size(); ++i) {
                     this.checkParameter(ctx, parameters.get(i));
                 }
+                if (ctx.errored()) {
+                    this.errored = true;
+                }
+
+                if (eventType != null && method.getEnclosingElement() instanceof TypeElement) {
+                    listenerClasses.computeIfAbsent((TypeElement) method.getEnclosingElement(), k -> new ArrayList<>()).add(method);
+                }
+            }
+
+            // Only generate invokers for valid listeners, compilation fails otherwise anyway
+            if (!this.errored) {
+                final ListenerInvokerGenerator generator = new ListenerInvokerGenerator(this.processingEnv);
+                for (final Map.Entry<TypeElement, List<ExecutableElement>> entry : listenerClasses.entrySet()) {
+                    generator.generate(entry.getKey(), entry.getValue());
+                }
             }
         }
 
@@ -182,10 +212,12 @@ private boolean isTypeSubclass(final Element typedElement, final String subclass
     // Error collection
 
     private void error(final CharSequence message, final Element element) {
+        this.errored = true;
         this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
     }
 
     private void error(final CharSequence message, final Element element, final AnnotationMirror annotation, final AnnotationValue value) {
+        this.errored = true;
         this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element, annotation, value);
     }
 
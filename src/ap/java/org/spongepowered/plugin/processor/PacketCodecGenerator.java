@@ -0,0 +1,504 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.plugin.processor;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.network.channel.packet.PacketCodec;
+import org.spongepowered.api.network.channel.packet.PacketField;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a {@link PacketCodec} implementation for a record whose
+ * components are annotated with {@link PacketField}.
+ *
+ * <p>Besides implementing the codec interface, the generated class exposes
+ * static {@code encode} and {@code decode} methods, which the codecs of
+ * records containing the record call directly.</p>
+ */
+final class PacketCodecGenerator {
+
+    private static final String PACKET_FIELD_ANNOTATION = PacketField.class.getName();
+    private static final String CHANNEL_BUF = "org.spongepowered.api.network.channel.ChannelBuf";
+
+    private final ProcessingEnvironment env;
+    // Enum types used by the record being generated, and the fields caching their constants
+    private final Map<String, String> enumConstants = new LinkedHashMap<>();
+    private String codec = "";
+    private int variables;
+
+    PacketCodecGenerator(final ProcessingEnvironment env) {
+        this.env = env;
+    }
+
+    /**
+     * Gets whether the given type is a record with a generated codec, that
+     * is a record whose components are all annotated.
+     *
+     * @param type The type
+     * @return Whether the type has a generated codec
+     */
+    boolean isCodecRecord(final TypeElement type) {
+        if (type.getKind() != ElementKind.RECORD || type.getRecordComponents().isEmpty()) {
+            return false;
+        }
+        for (final RecordComponentElement component : type.getRecordComponents()) {
+            if (this.packetField(component) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Generates the codec class for the given record, reporting an error
+     * for each component that cannot be encoded.
+     *
+     * @param record The record
+     */
+    void generate(final TypeElement record) {
+        if (!this.isAccessible(record)) {
+            this.error("Records with @PacketField components must not be private or local", record);
+            return;
+        }
+        if (!record.getTypeParameters().isEmpty()) {
+            this.error("Records with @PacketField components must not be generic", record);
+            return;
+        }
+        this.enumConstants.clear();
+        this.codec = this.codecSimpleName(record);
+        this.variables = 0;
+
+        final String recordType = record.getQualifiedName().toString();
+        final StringBuilder encode = new StringBuilder();
+        final StringBuilder decode = new StringBuilder();
+        final List<String> arguments = new ArrayList<>();
+        boolean valid = true;
+        for (final RecordComponentElement component : record.getRecordComponents()) {
+            final @Nullable AnnotationMirror field = this.packetField(component);
+            if (field == null) {
+                this.error("All components of a record with @PacketField components must be annotated", component);
+                valid = false;
+                continue;
+            }
+            final Map<? extends ExecutableElement, ? extends AnnotationValue> values = this.env.getElementUtils().getElementValuesWithDefaults(field);
+            final boolean fixedWidth = (Boolean) this.value(values, "fixedWidth").getValue();
+            final int maxLength = (Integer) this.value(values, "maxLength").getValue();
+            final TypeMirror type = component.asType();
+            if (!this.isSupported(type, true, component)) {
+                valid = false;
+                continue;
+            }
+            if (fixedWidth && !this.isVarNumber(type)) {
+                this.error("fixedWidth is only supported on int and long components, and lists and optionals of them", component);
+                valid = false;
+                continue;
+            }
+            this.encode(encode, type, "value." + component.getSimpleName() + "()", fixedWidth, "        ");
+            arguments.add(this.decode(decode, type, fixedWidth, maxLength, "        "));
+        }
+        if (!valid) {
+            return;
+        }
+
+        final PackageElement pkg = this.env.getElementUtils().getPackageOf(record);
+        final String simpleName = this.codec;
+
+        final StringBuilder source = new StringBuilder();
+        if (!pkg.isUnnamed()) {
+            source.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(PacketCodecProcessor.class.getName()).append("\")\n");
+        source.append("public final class ").append(simpleName)
+            .append(" implements org.spongepowered.api.network.channel.packet.PacketCodec<").append(recordType).append("> {\n\n");
+        for (final Map.Entry<String, String> constants : this.enumConstants.entrySet()) {
+            source.append("    private static final ").append(constants.getKey()).append("[] ").append(constants.getValue())
+                .append(" = ").append(constants.getKey()).append(".values();\n");
+        }
+        if (!this.enumConstants.isEmpty()) {
+            source.append("\n");
+        }
+        source.append("    public ").append(simpleName).append("() {\n    }\n\n");
+        source.append("    @Override\n");
+        source.append("    public ").append(recordType).append(" read(final ").append(PacketCodecGenerator.CHANNEL_BUF).append(" buf) {\n");
+        source.append("        return ").append(simpleName).append(".decode(buf);\n");
+        source.append("    }\n\n");
+        source.append("    @Override\n");
+        source.append("    public void write(final ").append(PacketCodecGenerator.CHANNEL_BUF).append(" buf, final ").append(recordType).append(" value) {\n");
+        source.append("        ").append(simpleName).append(".encode(buf, value);\n");
+        source.append("    }\n\n");
+        source.append("    public static ").append(recordType).append(" decode(final ").append(PacketCodecGenerator.CHANNEL_BUF).append(" buf) {\n");
+        source.append(decode);
+        source.append("        return new ").append(recordType).append("(").append(String.join(", ", arguments)).append(");\n");
+        source.append("    }\n\n");
+        source.append("    public static void encode(final ").append(PacketCodecGenerator.CHANNEL_BUF).append(" buf, final ").append(recordType)
+            .append(" value) {\n");
+        source.append(encode);
+        source.append("    }\n\n");
+        source.append("    private static int length(final ").append(PacketCodecGenerator.CHANNEL_BUF).append(" buf, final int max) {\n");
+        source.append("        final int length = buf.readVarInt();\n");
+        source.append("        if (length < 0 || length > max) {\n");
+        source.append("            throw new org.spongepowered.api.network.channel.ChannelIOException(\"Invalid length \" + length + \", the maximum is \" + max);\n");
+        source.append("        }\n");
+        source.append("        return length;\n");
+        source.append("    }\n\n");
+        source.append("    private static int bytes(final ").append(PacketCodecGenerator.CHANNEL_BUF).append(" buf, final int max) {\n");
+        source.append("        final int length = ").append(simpleName).append(".length(buf, max);\n");
+        source.append("        if (length > buf.available()) {\n");
+        source.append("            throw new org.spongepowered.api.network.channel.ChannelIOException(\"Invalid length \" + length + \", only \" + buf.available() + \" bytes are available\");\n");
+        source.append("        }\n");
+        source.append("        return length;\n");
+        source.append("    }\n\n");
+        source.append("    private static <E> E constant(final E[] constants, final int ordinal) {\n");
+        source.append("        if (ordinal < 0 || ordinal >= constants.length) {\n");
+        source.append("            throw new org.spongepowered.api.network.channel.ChannelIOException(\"Invalid ordinal \" + ordinal);\n");
+        source.append("        }\n");
+        source.append("        return constants[ordinal];\n");
+        source.append("    }\n\n");
+        source.append("}\n");
+
+        final String generatedName = pkg.isUnnamed() ? simpleName : pkg.getQualifiedName() + "." + simpleName;
+        try {
+            final JavaFileObject file = this.env.getFiler().createSourceFile(generatedName, record);
+            try (final Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (final IOException ex) {
+            this.error("Failed to write generated codec: " + ex.getMessage(), record);
+        }
+    }
+
+    private boolean isSupported(final TypeMirror type, final boolean component, final Element element) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        }
+        if (type.getKind() == TypeKind.ARRAY && ((ArrayType) type).getComponentType().getKind() == TypeKind.BYTE) {
+            return true;
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            final TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+            final String name = typeElement.getQualifiedName().toString();
+            if (name.equals("java.lang.String") || name.equals("java.util.UUID") || typeElement.getKind() == ElementKind.ENUM) {
+                return true;
+            }
+            if (this.isBoxed(type)) {
+                if (component) {
+                    this.error("Boxed primitives are only supported as elements of lists and optionals", element);
+                    return false;
+                }
+                return true;
+            }
+            if (name.equals("java.util.List") || name.equals("java.util.Optional")) {
+                final List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+                return arguments.size() == 1 && this.isSupported(this.bound(arguments.get(0)), false, element);
+            }
+            if (typeElement.getKind() == ElementKind.RECORD) {
+                if (!this.isCodecRecord(typeElement)) {
+                    this.error("Record " + typeElement.getSimpleName() + " has no generated codec, all of its components must be annotated with @PacketField",
+                        element);
+                    return false;
+                }
+                return true;
+            }
+        }
+        this.error("Unsupported @PacketField type " + type, element);
+        return false;
+    }
+
+    /**
+     * Gets whether the given supported type is written as a varint, or is a
+     * list or optional of such values, which {@code fixedWidth} applies to.
+     */
+    private boolean isVarNumber(final TypeMirror type) {
+        if (type.getKind() == TypeKind.DECLARED) {
+            final String name = ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+            if (name.equals("java.util.List") || name.equals("java.util.Optional")) {
+                return this.isVarNumber(this.bound(((DeclaredType) type).getTypeArguments().get(0)));
+            }
+        }
+        if (!type.getKind().isPrimitive() && !this.isBoxed(type)) {
+            return false;
+        }
+        final TypeKind kind = type.getKind().isPrimitive() ? type.getKind() : this.env.getTypeUtils().unboxedType(type).getKind();
+        return kind == TypeKind.INT || kind == TypeKind.LONG;
+    }
+
+    private void encode(final StringBuilder out, final TypeMirror type, final String value, final boolean fixedWidth, final String indent) {
+        if (type.getKind().isPrimitive() || this.isBoxed(type)) {
+            final TypeKind kind = type.getKind().isPrimitive() ? type.getKind() : this.env.getTypeUtils().unboxedType(type).getKind();
+            out.append(indent).append("buf.").append(this.primitiveMethod("write", kind, fixedWidth)).append("(").append(value).append(");\n");
+            return;
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            out.append(indent).append("buf.writeByteArray(").append(value).append(");\n");
+            return;
+        }
+        final DeclaredType declared = (DeclaredType) type;
+        final TypeElement element = (TypeElement) declared.asElement();
+        final String name = element.getQualifiedName().toString();
+        if (name.equals("java.lang.String")) {
+            out.append(indent).append("buf.writeString(").append(value).append(");\n");
+        } else if (name.equals("java.util.UUID")) {
+            out.append(indent).append("buf.writeUniqueId(").append(value).append(");\n");
+        } else if (element.getKind() == ElementKind.ENUM) {
+            out.append(indent).append("buf.writeVarInt(").append(value).append(".ordinal());\n");
+        } else if (element.getKind() == ElementKind.RECORD) {
+            out.append(indent).append(this.codecName(element)).append(".encode(buf, ").append(value).append(");\n");
+        } else {
+            final TypeMirror elementType = this.bound(declared.getTypeArguments().get(0));
+            final String elementName = this.render(elementType);
+            final String container = this.variable("container");
+            out.append(indent).append("final ").append(this.render(type)).append(" ").append(container).append(" = ").append(value).append(";\n");
+            if (name.equals("java.util.List")) {
+                final String entry = this.variable("element");
+                out.append(indent).append("buf.writeVarInt(").append(container).append(".size());\n");
+                out.append(indent).append("for (final ").append(elementName).append(" ").append(entry).append(" : ").append(container).append(") {\n");
+                this.encode(out, elementType, entry, fixedWidth, indent + "    ");
+            } else {
+                out.append(indent).append("buf.writeBoolean(").append(container).append(".isPresent());\n");
+                out.append(indent).append("if (").append(container).append(".isPresent()) {\n");
+                this.encode(out, elementType, container + ".get()", fixedWidth, indent + "    ");
+            }
+            out.append(indent).append("}\n");
+        }
+    }
+
+    /**
+     * Appends the statements reading a value of the given type into a new
+     * local variable, so that values are read in declaration order.
+     *
+     * @return The name of the variable
+     */
+    private String decode(final StringBuilder out, final TypeMirror type, final boolean fixedWidth, final int maxLength, final String indent) {
+        final String variable = this.variable("value");
+        if (type.getKind().isPrimitive() || this.isBoxed(type)) {
+            final TypeKind kind = type.getKind().isPrimitive() ? type.getKind() : this.env.getTypeUtils().unboxedType(type).getKind();
+            out.append(indent).append("final ").append(kind.name().toLowerCase(Locale.ROOT)).append(" ").append(variable).append(" = buf.")
+                .append(this.primitiveMethod("read", kind, fixedWidth)).append("();\n");
+            return variable;
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            out.append(indent).append("final byte[] ").append(variable).append(" = buf.readBytes(")
+                .append(this.codec).append(".bytes(buf, ").append(maxLength).append("));\n");
+            return variable;
+        }
+        final DeclaredType declared = (DeclaredType) type;
+        final TypeElement element = (TypeElement) declared.asElement();
+        final String name = element.getQualifiedName().toString();
+        final String typeName = this.render(type);
+        if (name.equals("java.lang.String")) {
+            out.append(indent).append("final String ").append(variable).append(" = buf.readCharSequence(")
+                .append(this.codec).append(".bytes(buf, ").append(maxLength)
+                .append("), java.nio.charset.StandardCharsets.UTF_8).toString();\n");
+        } else if (name.equals("java.util.UUID")) {
+            out.append(indent).append("final java.util.UUID ").append(variable).append(" = buf.readUniqueId();\n");
+        } else if (element.getKind() == ElementKind.ENUM) {
+            final String constants = this.enumConstants.computeIfAbsent(name, k -> "CONSTANTS_" + this.enumConstants.size());
+            out.append(indent).append("final ").append(typeName).append(" ").append(variable).append(" = ")
+                .append(this.codec).append(".constant(").append(constants).append(", buf.readVarInt());\n");
+        } else if (element.getKind() == ElementKind.RECORD) {
+            out.append(indent).append("final ").append(typeName).append(" ").append(variable).append(" = ")
+                .append(this.codecName(element)).append(".decode(buf);\n");
+        } else {
+            final TypeMirror elementType = this.bound(declared.getTypeArguments().get(0));
+            final String elementName = this.render(this.boxed(elementType));
+            if (name.equals("java.util.List")) {
+                final String size = this.variable("size");
+                final String elements = this.variable("elements");
+                final String index = this.variable("index");
+                out.append(indent).append("final int ").append(size).append(" = ")
+                    .append(this.codec).append(".length(buf, ").append(maxLength).append(");\n");
+                // Never trust the size enough to allocate more than the bytes left could hold
+                out.append(indent).append("final java.util.List<").append(elementName).append("> ").append(elements)
+                    .append(" = new java.util.ArrayList<>(Math.min(").append(size).append(", buf.available()));\n");
+                out.append(indent).append("for (int ").append(index).append(" = 0; ").append(index).append(" < ").append(size).append("; ")
+                    .append(index).append("++) {\n");
+                final String entry = this.decode(out, elementType, fixedWidth, Integer.MAX_VALUE, indent + "    ");
+                out.append(indent).append("    ").append(elements).append(".add(").append(entry).append(");\n");
+                out.append(indent).append("}\n");
+                out.append(indent).append("final java.util.List<").append(elementName).append("> ").append(variable)
+                    .append(" = java.util.Collections.unmodifiableList(").append(elements).append(");\n");
+            } else {
+                out.append(indent).append("final java.util.Optional<").append(elementName).append("> ").append(variable).append(";\n");
+                out.append(indent).append("if (buf.readBoolean()) {\n");
+                final String present = this.decode(out, elementType, fixedWidth, Integer.MAX_VALUE, indent + "    ");
+                out.append(indent).append("    ").append(variable).append(" = java.util.Optional.of(").append(present).append(");\n");
+                out.append(indent).append("} else {\n");
+                out.append(indent).append("    ").append(variable).append(" = java.util.Optional.empty();\n");
+                out.append(indent).append("}\n");
+            }
+        }
+        return variable;
+    }
+
+    private String primitiveMethod(final String prefix, final TypeKind kind, final boolean fixedWidth) {
+        switch (kind) {
+            case INT:
+                return prefix + (fixedWidth ? "Int" : "VarInt");
+            case LONG:
+                return prefix + (fixedWidth ? "Long" : "VarLong");
+            default:
+                final String name = kind.name().toLowerCase(Locale.ROOT);
+                return prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        }
+    }
+
+    private String variable(final String name) {
+        return name + this.variables++;
+    }
+
+    private boolean isBoxed(final TypeMirror type) {
+        try {
+            this.env.getTypeUtils().unboxedType(type);
+            return true;
+        } catch (final IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private TypeMirror boxed(final TypeMirror type) {
+        return type.getKind().isPrimitive() ? this.env.getTypeUtils().boxedClass(this.env.getTypeUtils().getPrimitiveType(type.getKind())).asType() : type;
+    }
+
+    private TypeMirror bound(final TypeMirror type) {
+        if (type.getKind() == TypeKind.WILDCARD) {
+            final @Nullable TypeMirror bound = ((WildcardType) type).getExtendsBound();
+            return bound == null ? this.env.getElementUtils().getTypeElement("java.lang.Object").asType() : bound;
+        }
+        return type;
+    }
+
+    private String codecSimpleName(final TypeElement record) {
+        final PackageElement pkg = this.env.getElementUtils().getPackageOf(record);
+        final String binaryName = this.env.getElementUtils().getBinaryName(record).toString();
+        return (pkg.isUnnamed() ? binaryName : binaryName.substring(pkg.getQualifiedName().length() + 1)) + PacketCodec.CLASS_SUFFIX;
+    }
+
+    private String codecName(final TypeElement record) {
+        final PackageElement pkg = this.env.getElementUtils().getPackageOf(record);
+        return pkg.isUnnamed() ? this.codecSimpleName(record) : pkg.getQualifiedName() + "." + this.codecSimpleName(record);
+    }
+
+    private @Nullable AnnotationMirror packetField(final Element element) {
+        for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            final TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+            if (this.env.getElementUtils().getBinaryName(type).contentEquals(PacketCodecGenerator.PACKET_FIELD_ANNOTATION)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private boolean isAccessible(final TypeElement type) {
+        Element current = type;
+        while (current.getKind().isClass() || current.getKind().isInterface()) {
+            final TypeElement element = (TypeElement) current;
+            if (element.getNestingKind() == NestingKind.LOCAL || element.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            current = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private AnnotationValue value(final Map<? extends ExecutableElement, ? extends AnnotationValue> values, final String name) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        throw new IllegalArgumentException("No annotation value named " + name);
+    }
+
+    /**
+     * Renders a type as source code, without any type annotations.
+     */
+    private String render(final TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED: {
+                final DeclaredType declared = (DeclaredType) type;
+                final StringBuilder builder = new StringBuilder(((TypeElement) declared.asElement()).getQualifiedName());
+                if (!declared.getTypeArguments().isEmpty()) {
+                    final List<String> arguments = new ArrayList<>();
+                    for (final TypeMirror argument : declared.getTypeArguments()) {
+                        arguments.add(this.render(argument));
+                    }
+                    builder.append('<').append(String.join(", ", arguments)).append('>');
+                }
+                return builder.toString();
+            }
+            case WILDCARD: {
+                final WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    return "? extends " + this.render(wildcard.getExtendsBound());
+                }
+                if (wildcard.getSuperBound() != null) {
+                    return "? super " + this.render(wildcard.getSuperBound());
+                }
+                return "?";
+            }
+            case ARRAY:
+                return this.render(((ArrayType) type).getComponentType()) + "[]";
+            default:
+                if (type.getKind().isPrimitive()) {
+                    return type.getKind().name().toLowerCase(Locale.ROOT);
+                }
+                return type.toString();
+        }
+    }
+
+    private void error(final CharSequence message, final Element element) {
+        this.env.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.plugin.processor;
+
+import org.spongepowered.api.network.channel.packet.PacketField;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Generates a {@link org.spongepowered.api.network.channel.packet.PacketCodec}
+ * for every record with {@link PacketField} components.
+ */
+@SupportedAnnotationTypes(PacketCodecProcessor.PACKET_FIELD_ANNOTATION_CLASS)
+@SupportedSourceVersion(SourceVersion.RELEASE_21)
+public class PacketCodecProcessor extends AbstractProcessor {
+
+    static final String PACKET_FIELD_ANNOTATION_CLASS = "org.spongepowered.api.network.channel.packet.PacketField";
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (ProcessorUtils.contains(annotations, PacketField.class)) {
+            final Set<TypeElement> records = new LinkedHashSet<>();
+            for (final Element e : roundEnv.getElementsAnnotatedWith(PacketField.class)) {
+                if (e.getKind() == ElementKind.RECORD_COMPONENT) {
+                    records.add((TypeElement) e.getEnclosingElement());
+                }
+            }
+            final PacketCodecGenerator generator = new PacketCodecGenerator(this.processingEnv);
+            for (final TypeElement record : records) {
+                generator.generate(record);
+            }
+        }
+
+        return false;
+    }
+
+}
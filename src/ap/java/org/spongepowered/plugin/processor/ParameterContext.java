@@ -45,6 +45,7 @@ public class ParameterContext {
     private final Optional<TypeElement> eventElement;
     private VariableElement param;
     private AnnotationMirror anno;
+    private boolean errored;
 
     public ParameterContext(final ProcessingEnvironment env, final @Nullable DeclaredType eventType) {
         this.env = env;
@@ -81,15 +82,22 @@ AnnotationMirror anno() {
         return this.anno;
     }
 
+    boolean errored() {
+        return this.errored;
+    }
+
     void logParamError(final String message) {
+        this.errored = true;
         this.env.getMessager().printMessage(Diagnostic.Kind.ERROR, message, this.param);
     }
 
     void logError(final String message) {
+        this.errored = true;
         this.env.getMessager().printMessage(Diagnostic.Kind.ERROR, message, this.param, this.anno);
     }
 
     void logError(final String message, final AnnotationValue value) {
+        this.errored = true;
         this.env.getMessager().printMessage(Diagnostic.Kind.ERROR, message, this.param, this.anno, value);
     }
 
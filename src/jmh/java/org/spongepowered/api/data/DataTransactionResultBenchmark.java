@@ -0,0 +1,120 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.data.value.Value;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building and merging {@link DataTransactionResult}s, as done for
+ * every data offer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataTransactionResultBenchmark {
+
+    @Param({"1", "8"})
+    private int values;
+
+    private List<Value.Immutable<?>> successful;
+    private List<Value.Immutable<?>> replaced;
+    private DataTransactionResult result;
+
+    @Setup
+    public void setup() {
+        this.successful = new ArrayList<>();
+        this.replaced = new ArrayList<>();
+        for (int i = 0; i < this.values; i++) {
+            final Key<?> key = DataTransactionResultBenchmark.proxy(Key.class, null);
+            this.successful.add(DataTransactionResultBenchmark.proxy(Value.Immutable.class, key));
+            this.replaced.add(DataTransactionResultBenchmark.proxy(Value.Immutable.class, key));
+        }
+        this.result = DataTransactionResult.builder()
+            .success(this.successful)
+            .replace(this.replaced)
+            .result(DataTransactionResult.Type.SUCCESS)
+            .build();
+    }
+
+    @Benchmark
+    public DataTransactionResult build() {
+        return DataTransactionResult.builder()
+            .success(this.successful)
+            .replace(this.replaced)
+            .result(DataTransactionResult.Type.SUCCESS)
+            .build();
+    }
+
+    @Benchmark
+    public DataTransactionResult absorb() {
+        return DataTransactionResult.builder()
+            .success(this.successful)
+            .absorbResult(this.result)
+            .build();
+    }
+
+    /**
+     * Creates an identity based stand-in, the benchmarks only require
+     * {@link Value#key()} and identity semantics.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<?> type, final @Nullable Object key) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "key":
+                    return key;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DataQuery} construction and the path operations used when
+ * resolving values in {@link DataView}s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataQueryBenchmark {
+
+    private DataQuery root;
+    private DataQuery path;
+    private DataQuery equalPath;
+
+    @Setup
+    public void setup() {
+        this.root = DataQuery.of("Level");
+        this.path = DataQuery.of("Level", "Sections", "BlockStates", "Palette");
+        this.equalPath = DataQuery.of('.', "Level.Sections.BlockStates.Palette");
+    }
+
+    @Benchmark
+    public DataQuery ofParts() {
+        return DataQuery.of("Level", "Sections", "BlockStates");
+    }
+
+    @Benchmark
+    public DataQuery ofSeparator() {
+        return DataQuery.of('.', "Level.Sections.BlockStates");
+    }
+
+    @Benchmark
+    public DataQuery thenString() {
+        return this.root.then("Sections");
+    }
+
+    @Benchmark
+    public DataQuery thenQuery() {
+        return this.root.then(this.path);
+    }
+
+    @Benchmark
+    public DataQuery pop() {
+        return this.path.pop();
+    }
+
+    @Benchmark
+    public DataQuery popFirst() {
+        return this.path.popFirst();
+    }
+
+    @Benchmark
+    public int hash() {
+        return this.path.hashCode();
+    }
+
+    @Benchmark
+    public boolean equality() {
+        return this.path.equals(this.equalPath);
+    }
+
+}
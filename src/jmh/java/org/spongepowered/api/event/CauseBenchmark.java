@@ -0,0 +1,118 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link Cause} queries used by listener filters while an event
+ * is being dispatched.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CauseBenchmark {
+
+    @Param({"2", "8", "32"})
+    private int depth;
+
+    private Cause cause;
+
+    @Setup
+    public void setup() {
+        final Cause.Builder builder = Cause.builder();
+        // A typical stack: plugin-ish objects on top, the interesting
+        // types buried somewhere in the middle and at the bottom
+        for (int i = 0; i < this.depth; i++) {
+            if (i == this.depth / 2) {
+                builder.append(Integer.valueOf(i));
+            } else if (i % 3 == 0) {
+                builder.append(new StringBuilder("entry" + i));
+            } else {
+                builder.append("entry" + i);
+            }
+        }
+        builder.append(Long.valueOf(this.depth));
+        this.cause = builder.build(EventContext.empty());
+    }
+
+    @Benchmark
+    public Optional<Integer> first() {
+        return this.cause.first(Integer.class);
+    }
+
+    @Benchmark
+    public Optional<Integer> firstMissing() {
+        return this.cause.first(Double.class).map(Double::intValue);
+    }
+
+    @Benchmark
+    public Optional<String> last() {
+        return this.cause.last(String.class);
+    }
+
+    @Benchmark
+    public List<CharSequence> allOf() {
+        return this.cause.allOf(CharSequence.class);
+    }
+
+    @Benchmark
+    public List<Object> noneOf() {
+        return this.cause.noneOf(CharSequence.class);
+    }
+
+    @Benchmark
+    public Optional<?> before() {
+        return this.cause.before(Integer.class);
+    }
+
+    @Benchmark
+    public Optional<?> after() {
+        return this.cause.after(Integer.class);
+    }
+
+    @Benchmark
+    public Cause with() {
+        return this.cause.with("appended");
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.ResourceKey;
+
+import java.lang.reflect.Type;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures {@link EventContext} lookups and the cost of building a context
+ * snapshot, as done for every event posted through the cause stack.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("unchecked")
+public class EventContextBenchmark {
+
+    @Param({"1", "4", "12"})
+    private int size;
+
+    private BenchmarkKey<?>[] keys;
+    private BenchmarkKey<String> present;
+    private BenchmarkKey<String> absent;
+    private EventContext context;
+
+    @Setup
+    public void setup() {
+        this.keys = new BenchmarkKey<?>[this.size];
+        final EventContext.Builder builder = EventContext.builder();
+        for (int i = 0; i < this.size; i++) {
+            final BenchmarkKey<String> key = new BenchmarkKey<>();
+            this.keys[i] = key;
+            builder.add(key, "value" + i);
+        }
+        this.present = (BenchmarkKey<String>) this.keys[this.size / 2];
+        this.absent = new BenchmarkKey<>();
+        this.context = builder.build();
+    }
+
+    @Benchmark
+    public Optional<String> get() {
+        return this.context.get(this.present);
+    }
+
+    @Benchmark
+    public Optional<String> getMissing() {
+        return this.context.get(this.absent);
+    }
+
+    @Benchmark
+    public boolean containsKey() {
+        return this.context.containsKey(this.present);
+    }
+
+    @Benchmark
+    public EventContext build() {
+        final EventContext.Builder builder = EventContext.builder();
+        for (int i = 0; i < this.keys.length; i++) {
+            builder.add((BenchmarkKey<String>) this.keys[i], "value");
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public EventContext copy() {
+        return EventContext.builder().from(this.context).build();
+    }
+
+    static final class BenchmarkKey<T> implements EventContextKey<T> {
+
+        private static final AtomicInteger ORDINALS = new AtomicInteger();
+
+        private final int ordinal = BenchmarkKey.ORDINALS.getAndIncrement();
+
+        @Override
+        public ResourceKey key() {
+            throw new UnsupportedOperationException("Benchmark keys are not registered");
+        }
+
+        @Override
+        public Type allowedType() {
+            return Object.class;
+        }
+
+        @Override
+        public boolean isInstance(final Object value) {
+            return true;
+        }
+
+        @Override
+        public T cast(final Object value) {
+            return (T) value;
+        }
+
+        @Override
+        public int ordinal() {
+            return this.ordinal;
+        }
+
+    }
+
+}
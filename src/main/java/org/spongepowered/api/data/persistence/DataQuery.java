@@ -25,16 +25,19 @@
 package org.spongepowered.api.data.persistence;
 
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.StringJoiner;
+import java.util.WeakHashMap;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Represents a query that can be done on views. Queries do not depend on
@@ -42,14 +45,23 @@
  */
 public final class DataQuery implements Iterable<String> {
 
-    private static final DataQuery EMPTY = new DataQuery();
+    private static final DataQuery EMPTY = new DataQuery(new String[0]);
 
     /**
-     * The parts that make up this query.
+     * The pool of {@link #intern() interned} queries, weakly keyed so unused
+     * queries can still be collected.
      */
-    private final List<String> parts;
+    private static final Map<DataQuery, WeakReference<DataQuery>> INTERNED = new WeakHashMap<>();
 
+    /**
+     * The parts that make up this query, owned by this query and never
+     * modified.
+     */
+    private final String[] parts;
+
+    private @MonotonicNonNull List<String> partsList; //lazy loaded
     private @MonotonicNonNull List<DataQuery> queryParts; //lazy loaded
+    private int hash; //lazy loaded, 0 until computed
 
     /**
      * Constructs a query using the given separator character and path.
@@ -66,21 +78,13 @@ private DataQuery(final char separator, final String path) {
     }
 
     /**
-     * Constructs a query using the given parts.
-     *
-     * @param parts The parts
-     */
-    private DataQuery(final String... parts) {
-        this.parts = List.of(parts);
-    }
-
-    /**
-     * Constructs a query using the given parts.
+     * Constructs a query using the given parts. The array is not copied,
+     * callers must hand over an array that is not modified afterwards.
      *
      * @param parts The parts
      */
-    private DataQuery(final List<String> parts) {
-        this.parts = List.copyOf(parts);
+    private DataQuery(final String[] parts) {
+        this.parts = parts;
     }
 
     /**
@@ -119,7 +123,7 @@ public static DataQuery of(final String... parts) {
         if (parts.length == 0) {
             return DataQuery.EMPTY;
         }
-        return new DataQuery(parts);
+        return new DataQuery(DataQuery.checkParts(parts.clone()));
     }
 
     /**
@@ -132,7 +136,14 @@ public static DataQuery of(final List<String> parts) {
         if (parts.isEmpty()) {
             return DataQuery.EMPTY;
         }
-        return new DataQuery(parts);
+        return new DataQuery(DataQuery.checkParts(parts.toArray(new String[0])));
+    }
+
+    private static String[] checkParts(final String[] parts) {
+        for (final String part : parts) {
+            Objects.requireNonNull(part, "Query parts cannot be null");
+        }
+        return parts;
     }
 
     /**
@@ -141,7 +152,10 @@ public static DataQuery of(final List<String> parts) {
      * @return The parts of this query
      */
     public List<String> parts() {
-        return this.parts;
+        if (this.partsList == null) {
+            this.partsList = List.of(this.parts);
+        }
+        return this.partsList;
     }
 
     /**
@@ -152,7 +166,14 @@ public List<String> parts() {
      * @return The constructed query
      */
     public DataQuery then(final DataQuery that) {
-        final var parts = Stream.concat(this.parts.stream(), that.parts.stream()).collect(Collectors.toUnmodifiableList());
+        if (that.parts.length == 0) {
+            return this;
+        }
+        if (this.parts.length == 0) {
+            return that;
+        }
+        final String[] parts = Arrays.copyOf(this.parts, this.parts.length + that.parts.length);
+        System.arraycopy(that.parts, 0, parts, this.parts.length, that.parts.length);
         return new DataQuery(parts);
     }
 
@@ -164,7 +185,9 @@ public DataQuery then(final DataQuery that) {
      * @return The constructed query
      */
     public DataQuery then(final String that) {
-        final var parts = Stream.concat(this.parts.stream(), Stream.of(that)).collect(Collectors.toUnmodifiableList());
+        Objects.requireNonNull(that, "Query parts cannot be null");
+        final String[] parts = Arrays.copyOf(this.parts, this.parts.length + 1);
+        parts[this.parts.length] = that;
         return new DataQuery(parts);
     }
 
@@ -176,7 +199,11 @@ public DataQuery then(final String that) {
      */
     public List<DataQuery> queryParts() {
         if (this.queryParts == null) {
-            this.queryParts = this.parts().stream().map(DataQuery::new).collect(Collectors.toUnmodifiableList());
+            final DataQuery[] queryParts = new DataQuery[this.parts.length];
+            for (int i = 0; i < this.parts.length; i++) {
+                queryParts[i] = new DataQuery(new String[] {this.parts[i]});
+            }
+            this.queryParts = List.of(queryParts);
         }
         return this.queryParts;
     }
@@ -189,11 +216,10 @@ public List<DataQuery> queryParts() {
      * @return The next level query
      */
     public DataQuery pop() {
-        if (this.parts.size() <= 1) {
+        if (this.parts.length <= 1) {
             return DataQuery.of();
         }
-        final var parts = this.parts.stream().limit(this.parts.size() - 1L).collect(Collectors.toUnmodifiableList());
-        return new DataQuery(parts);
+        return new DataQuery(Arrays.copyOf(this.parts, this.parts.length - 1));
     }
 
     /**
@@ -204,11 +230,10 @@ public DataQuery pop() {
      * @return The next level query
      */
     public DataQuery popFirst() {
-        if (this.parts.size() <= 1) {
+        if (this.parts.length <= 1) {
             return DataQuery.of();
         }
-        final var parts = this.parts.stream().skip(1L).collect(Collectors.toUnmodifiableList());
-        return new DataQuery(parts);
+        return new DataQuery(Arrays.copyOfRange(this.parts, 1, this.parts.length));
     }
 
     /**
@@ -218,10 +243,10 @@ public DataQuery popFirst() {
      * @return The last entry as a data query, if not already last
      */
     public DataQuery last() {
-        if (this.parts.size() <= 1) {
+        if (this.parts.length <= 1) {
             return this;
         }
-        return new DataQuery(this.parts.get(this.parts.size() - 1));
+        return new DataQuery(new String[] {this.parts[this.parts.length - 1]});
     }
 
     /**
@@ -232,7 +257,9 @@ public DataQuery last() {
      */
     public String asString(final String separator) {
         final StringJoiner stringJoiner = new StringJoiner(separator);
-        this.parts.forEach(stringJoiner::add);
+        for (final String part : this.parts) {
+            stringJoiner.add(part);
+        }
         return stringJoiner.toString();
     }
 
@@ -246,6 +273,29 @@ public String asString(final char separator) {
         return this.asString(String.valueOf(separator));
     }
 
+    /**
+     * Gets the canonical instance of this query.
+     *
+     * <p>Interning the same path twice returns the same instance for as
+     * long as that instance is reachable, so equality checks between
+     * interned queries are reference checks. This is meant for constant
+     * queries that are used over and over, such as those in
+     * {@link Queries}, not for queries built on the fly.</p>
+     *
+     * @return The interned query
+     */
+    public DataQuery intern() {
+        synchronized (DataQuery.INTERNED) {
+            final @Nullable WeakReference<DataQuery> reference = DataQuery.INTERNED.get(this);
+            final @Nullable DataQuery interned = reference == null ? null : reference.get();
+            if (interned != null) {
+                return interned;
+            }
+            DataQuery.INTERNED.put(this, new WeakReference<>(this));
+            return this;
+        }
+    }
+
     @Override
     public String toString() {
         return this.asString('.');
@@ -253,7 +303,13 @@ public String toString() {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.parts);
+        int hash = this.hash;
+        if (hash == 0) {
+            // Same as Objects.hash(parts())
+            hash = 31 + Arrays.hashCode(this.parts);
+            this.hash = hash;
+        }
+        return hash;
     }
 
     @Override
@@ -265,22 +321,27 @@ public boolean equals(final Object obj) {
             return false;
         }
         final DataQuery other = (DataQuery) obj;
-        return Objects.equals(this.parts, other.parts);
+        if (this.hash != 0 && other.hash != 0 && this.hash != other.hash) {
+            return false;
+        }
+        return Arrays.equals(this.parts, other.parts);
     }
 
     @Override
     public Iterator<String> iterator() {
-        return this.parts.iterator();
+        return this.parts().iterator();
     }
 
     @Override
     public void forEach(final Consumer<? super String> action) {
-        this.parts.forEach(action);
+        for (final String part : this.parts) {
+            action.accept(part);
+        }
     }
 
     @Override
     public Spliterator<String> spliterator() {
-        return this.parts.spliterator();
+        return this.parts().spliterator();
     }
 
 }
@@ -24,9 +24,6 @@
  */
 package org.spongepowered.api.data.persistence;
 
-import static org.spongepowered.api.data.persistence.DataQuery.of;
-
-@SuppressWarnings("BadImport")
 public final class Queries {
 
     // Content version
@@ -92,6 +89,10 @@ public final class Queries {
     public static final DataQuery PROPERTY_VALUE = of("value");
     public static final DataQuery PROPERTY_SIGNATURE = of("signature");
 
+    private static DataQuery of(final String... parts) {
+        return DataQuery.of(parts).intern();
+    }
+
     // Suppress default constructor to ensure non-instantiability.
     private Queries() {
         throw new AssertionError("You should not be attempting to instantiate this class.");
@@ -31,12 +31,13 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.StringJoiner;
-import java.util.stream.Collectors;
 
 /**
  * A cause represents the reason or initiator of an event.
@@ -117,6 +118,12 @@ public static Cause of(final EventContext ctx, final Iterable<Object> iterable)
 
     // lazy load
     @Nullable private List<Object> immutableCauses;
+    // lazy load, grown per queried class and republished as a new immutable map
+    @Nullable private Map<Class<?>, TypeIndex> typeIndices;
+    // the type indices of the cause this one was derived from through with(...),
+    // valid for the first inheritedLength causes
+    @Nullable private final Map<Class<?>, TypeIndex> inheritedTypeIndices;
+    private final int inheritedLength;
 
     /**
      * Constructs a new cause.
@@ -132,6 +139,8 @@ public static Cause of(final EventContext ctx, final Iterable<Object> iterable)
         }
         this.cause = objects;
         this.context = ctx;
+        this.inheritedTypeIndices = null;
+        this.inheritedLength = 0;
     }
 
     /**
@@ -141,6 +150,21 @@ public static Cause of(final EventContext ctx, final Iterable<Object> iterable)
      * @param causes The causes
      */
     Cause(final EventContext ctx, final Collection<Object> causes) {
+        this(ctx, causes, null, 0);
+    }
+
+    /**
+     * Constructs a new cause derived from another cause.
+     *
+     * @param ctx The event context
+     * @param causes The causes
+     * @param inheritedTypeIndices The type indices of the cause this one is
+     *     derived from, if any were computed
+     * @param inheritedLength The number of causes of the cause this one is
+     *     derived from
+     */
+    private Cause(final EventContext ctx, final Collection<Object> causes, final @Nullable Map<Class<?>, TypeIndex> inheritedTypeIndices,
+        final int inheritedLength) {
         java.util.Objects.requireNonNull(ctx, "Context");
         final Object[] objects = new Object[causes.size()];
         int index = 0;
@@ -149,6 +173,8 @@ public static Cause of(final EventContext ctx, final Iterable<Object> iterable)
         }
         this.cause = objects;
         this.context = ctx;
+        this.inheritedTypeIndices = inheritedTypeIndices;
+        this.inheritedLength = inheritedLength;
     }
 
     /**
@@ -177,12 +203,11 @@ public Object root() {
      * @return The first element of the type, if available
      */
     public <T> Optional<T> first(final Class<T> target) {
-        for (final Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return Optional.of((T) aCause);
-            }
+        final int[] indices = this.typeIndex(target).indices;
+        if (indices.length == 0) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of((T) this.cause[indices[0]]);
     }
 
     /**
@@ -194,12 +219,11 @@ public <T> Optional<T> first(final Class<T> target) {
      * @return The last element of the type, if available
      */
     public <T> Optional<T> last(final Class<T> target) {
-        for (int i = this.cause.length - 1; i >= 0; i--) {
-            if (target.isInstance(this.cause[i])) {
-                return Optional.of((T) this.cause[i]);
-            }
+        final int[] indices = this.typeIndex(target).indices;
+        if (indices.length == 0) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of((T) this.cause[indices[indices.length - 1]]);
     }
 
     /**
@@ -216,9 +240,9 @@ public Optional<?> before(final Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i > 0) {
-                return Optional.of(this.cause[i - 1]);
+        for (final int index : this.typeIndex(clazz).indices) {
+            if (index > 0) {
+                return Optional.of(this.cause[index - 1]);
             }
         }
         return Optional.empty();
@@ -238,12 +262,12 @@ public Optional<?> after(final Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i + 1 < this.cause.length) {
-                return Optional.of(this.cause[i + 1]);
-            }
+        final int[] indices = this.typeIndex(clazz).indices;
+        // Only the very last cause has nothing after it
+        if (indices.length == 0 || indices[0] + 1 >= this.cause.length) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of(this.cause[indices[0] + 1]);
     }
 
     /**
@@ -254,13 +278,7 @@ public Optional<?> after(final Class<?> clazz) {
      */
     public boolean containsType(final Class<?> target) {
         java.util.Objects.requireNonNull(target, "The provided class cannot be null!");
-        for (final Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return true;
-            }
-        }
-
-        return false;
+        return this.typeIndex(target).indices.length != 0;
     }
 
     /**
@@ -289,7 +307,7 @@ public boolean contains(final Object object) {
      * @return An immutable list of the objects queried
      */
     public <T> List<T> allOf(final Class<T> target) {
-        return Arrays.stream(this.cause).filter(target::isInstance).map(entry -> (T) entry).collect(Collectors.toUnmodifiableList());
+        return (List<T>) this.typeIndex(target).instances;
     }
 
     /**
@@ -300,7 +318,21 @@ public <T> List<T> allOf(final Class<T> target) {
      * @return The list of objects not an instance of the provided class
      */
     public List<Object> noneOf(final Class<?> ignoredClass) {
-        return Arrays.stream(this.cause).filter(entry -> !ignoredClass.isInstance(entry)).collect(Collectors.toUnmodifiableList());
+        final int[] indices = this.typeIndex(ignoredClass).indices;
+        if (indices.length == 0) {
+            return this.all();
+        }
+        final Object[] remaining = new Object[this.cause.length - indices.length];
+        int ignored = 0;
+        int index = 0;
+        for (int i = 0; i < this.cause.length; i++) {
+            if (ignored < indices.length && indices[ignored] == i) {
+                ignored++;
+            } else {
+                remaining[index++] = this.cause[i];
+            }
+        }
+        return List.of(remaining);
     }
 
     /**
@@ -315,6 +347,59 @@ public List<Object> all() {
         return this.immutableCauses;
     }
 
+    /**
+     * Gets the {@link TypeIndex} of the given type, scanning the causes only
+     * the first time the type is queried on this cause.
+     *
+     * @param target The class of the target type
+     * @return The type index
+     */
+    private TypeIndex typeIndex(final Class<?> target) {
+        final @Nullable Map<Class<?>, TypeIndex> indices = this.typeIndices;
+        if (indices != null) {
+            final @Nullable TypeIndex index = indices.get(target);
+            if (index != null) {
+                return index;
+            }
+        }
+        final TypeIndex index = this.computeTypeIndex(target);
+        final Map<Class<?>, TypeIndex> updated = indices == null ? new HashMap<>() : new HashMap<>(indices);
+        updated.put(target, index);
+        this.typeIndices = Map.copyOf(updated);
+        return index;
+    }
+
+    private TypeIndex computeTypeIndex(final Class<?> target) {
+        final @Nullable TypeIndex inherited = this.inheritedTypeIndices == null ? null : this.inheritedTypeIndices.get(target);
+        final int start = inherited == null ? 0 : this.inheritedLength;
+        final int[] found = new int[this.cause.length];
+        int count = 0;
+        if (inherited != null) {
+            System.arraycopy(inherited.indices, 0, found, 0, inherited.indices.length);
+            count = inherited.indices.length;
+        }
+        for (int i = start; i < this.cause.length; i++) {
+            if (target.isInstance(this.cause[i])) {
+                found[count++] = i;
+            }
+        }
+        if (inherited != null && count == inherited.indices.length) {
+            return inherited;
+        }
+        return new TypeIndex(this.cause, Arrays.copyOf(found, count));
+    }
+
+    /**
+     * Creates a new cause with this cause's objects followed by the builder's
+     * additions, sharing the already computed type indices of this cause.
+     *
+     * @param builder The builder holding this cause's objects and additions
+     * @return The derived cause
+     */
+    private Cause derive(final Cause.Builder builder) {
+        return new Cause(this.context, builder.causes, this.typeIndices, this.cause.length);
+    }
+
     /**
      * Creates a new {@link Cause} where the objects are added at the end of the
      * cause array of objects.
@@ -361,7 +446,7 @@ public Cause with(final Iterable<Object> iterable) {
             java.util.Objects.requireNonNull(o, "Cannot add null causes");
             builder.append(o);
         }
-        return builder.build(this.context);
+        return this.derive(builder);
     }
 
     /**
@@ -375,7 +460,7 @@ public Cause with(final Cause cause) {
         for (int i = 0; i < cause.cause.length; i++) {
             builder.append(cause.cause[i]);
         }
-        return builder.build(this.context);
+        return this.derive(builder);
     }
 
     @Override
@@ -407,6 +492,25 @@ public String toString() {
         return causeString + joiner.toString() + "}]";
     }
 
+    /**
+     * The positions of the causes that are instances of a single type.
+     */
+    private static final class TypeIndex {
+
+        final int[] indices;
+        final List<Object> instances;
+
+        TypeIndex(final Object[] cause, final int[] indices) {
+            this.indices = indices;
+            final Object[] objects = new Object[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                objects[i] = cause[indices[i]];
+            }
+            this.instances = List.of(objects);
+        }
+
+    }
+
     private class Itr implements Iterator<Object> {
 
         private int index = 0;
@@ -28,6 +28,7 @@
 import org.spongepowered.api.util.CopyableBuilder;
 import org.spongepowered.api.util.annotation.DoNotStore;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -40,11 +41,18 @@
 /**
  * Provides context for an event outside of the direct chain of causes present
  * in the event's {@link Cause}.
+ *
+ * <p>Values are stored in a flat array indexed by
+ * {@link EventContextKey#ordinal()}. Keys whose slot is already taken by
+ * another key with the same ordinal, or whose ordinal is negative, are kept
+ * in a map instead.</p>
  */
 @DoNotStore
 public final class EventContext {
 
-    private static final EventContext EMPTY_CONTEXT = new EventContext(Map.of());
+    private static final Object[] NO_VALUES = new Object[0];
+    private static final EventContextKey<?>[] NO_KEYS = new EventContextKey<?>[0];
+    private static final EventContext EMPTY_CONTEXT = new EventContext(EventContext.NO_KEYS, EventContext.NO_VALUES, null, 0);
 
     /**
      * Gets an empty context.
@@ -63,10 +71,12 @@ public static EventContext empty() {
      */
     public static EventContext of(Map<EventContextKey<?>, Object> entries) {
         Objects.requireNonNull(entries, "Context entries cannot be null");
+        final Builder builder = new Builder();
         for (Map.Entry<EventContextKey<?>, Object> entry : entries.entrySet()) {
             Objects.requireNonNull(entry.getValue(), "Entries cannot contain null values");
+            builder.put(Objects.requireNonNull(entry.getKey(), "Entries cannot contain null keys"), entry.getValue());
         }
-        return new EventContext(entries);
+        return builder.build();
     }
 
     /**
@@ -78,10 +88,37 @@ public static Builder builder() {
         return new Builder();
     }
 
-    private final Map<EventContextKey<?>, Object> entries;
+    // both indexed by key ordinal, slots without an entry are null
+    private final EventContextKey<?>[] keys;
+    private final Object[] values;
+    // entries whose key could not take the slot of its ordinal
+    private final @Nullable Map<EventContextKey<?>, Object> overflow;
+    private final int size;
+
+    // lazy load
+    private @Nullable Map<EventContextKey<?>, Object> entries;
+
+    EventContext(EventContextKey<?>[] keys, Object[] values, @Nullable Map<EventContextKey<?>, Object> overflow, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.overflow = overflow;
+        this.size = size;
+    }
 
-    EventContext(Map<EventContextKey<?>, Object> values) {
-        this.entries = Map.copyOf(values);
+    private @Nullable Object value(EventContextKey<?> key) {
+        return EventContext.value(this.keys, this.values, this.overflow, key);
+    }
+
+    private static @Nullable Object value(EventContextKey<?>[] keys, Object[] values, @Nullable Map<EventContextKey<?>, Object> overflow,
+        EventContextKey<?> key) {
+        final int ordinal = key.ordinal();
+        if (ordinal >= 0 && ordinal < keys.length) {
+            final @Nullable EventContextKey<?> present = keys[ordinal];
+            if (present != null && present.equals(key)) {
+                return values[ordinal];
+            }
+        }
+        return overflow == null ? null : overflow.get(key);
     }
 
     /**
@@ -94,7 +131,7 @@ public static Builder builder() {
     @SuppressWarnings("unchecked")
     public <T> Optional<T> get(EventContextKey<T> key) {
         Objects.requireNonNull(key, "EventContextKey cannot be null");
-        return Optional.ofNullable((T) this.entries.get(key));
+        return Optional.ofNullable((T) this.value(key));
     }
 
     /**
@@ -107,7 +144,7 @@ public <T> Optional<T> get(EventContextKey<T> key) {
     @SuppressWarnings("unchecked")
     public <T> Optional<T> get(Supplier<EventContextKey<T>> key) {
         Objects.requireNonNull(key, "EventContextKey cannot be null");
-        return Optional.ofNullable((T) this.entries.get(key.get()));
+        return Optional.ofNullable((T) this.value(key.get()));
     }
 
     /**
@@ -120,10 +157,12 @@ public <T> Optional<T> get(Supplier<EventContextKey<T>> key) {
      * @param <T> The type of the value stored with the key
      * @return The context value, if found
      */
+    @SuppressWarnings("unchecked")
     public <T> T require(EventContextKey<T> key) {
-        final Optional<T> optional = this.get(key);
-        if (optional.isPresent()) {
-            return optional.get();
+        Objects.requireNonNull(key, "EventContextKey cannot be null");
+        final @Nullable Object value = this.value(key);
+        if (value != null) {
+            return (T) value;
         }
         throw new NoSuchElementException(String.format("Could not retrieve value for key '%s'", key.toString()));
     }
@@ -139,11 +178,8 @@ public <T> T require(EventContextKey<T> key) {
      * @return The context value, if found
      */
     public <T> T require(Supplier<EventContextKey<T>> key) {
-        final Optional<T> optional = this.get(key);
-        if (optional.isPresent()) {
-            return optional.get();
-        }
-        throw new NoSuchElementException(String.format("Could not retrieve value for key '%s'", key.get().toString()));
+        Objects.requireNonNull(key, "EventContextKey cannot be null");
+        return this.require(key.get());
     }
 
     /**
@@ -154,7 +190,7 @@ public <T> T require(Supplier<EventContextKey<T>> key) {
      * @return True if the key is used and there is an entry for it
      */
     public boolean containsKey(EventContextKey<?> key) {
-        return this.entries.containsKey(key);
+        return this.value(key) != null;
     }
 
     /**
@@ -165,7 +201,7 @@ public boolean containsKey(EventContextKey<?> key) {
      * @return True if the key is used and there is an entry for it
      */
     public boolean containsKey(Supplier<? extends EventContextKey<?>> key) {
-        return this.entries.containsKey(key.get());
+        return this.value(key.get()) != null;
     }
 
     /**
@@ -174,7 +210,7 @@ public boolean containsKey(Supplier<? extends EventContextKey<?>> key) {
      * @return All present keys
      */
     public Set<EventContextKey<?>> keySet() {
-        return this.entries.keySet();
+        return this.asMap().keySet();
     }
 
     /**
@@ -183,6 +219,21 @@ public Set<EventContextKey<?>> keySet() {
      * @return A map view of this context
      */
     public Map<EventContextKey<?>, Object> asMap() {
+        if (this.entries == null) {
+            if (this.size == 0) {
+                return Map.of();
+            }
+            final Map<EventContextKey<?>, Object> entries = new HashMap<>(this.size);
+            for (int i = 0; i < this.keys.length; i++) {
+                if (this.keys[i] != null) {
+                    entries.put(this.keys[i], this.values[i]);
+                }
+            }
+            if (this.overflow != null) {
+                entries.putAll(this.overflow);
+            }
+            this.entries = Map.copyOf(entries);
+        }
         return this.entries;
     }
 
@@ -195,13 +246,19 @@ public boolean equals(@Nullable Object object) {
             return false;
         }
         final EventContext ctx = (EventContext) object;
-        for (Map.Entry<EventContextKey<?>, Object> entry : this.entries.entrySet()) {
-            final Object other = ctx.entries.get(entry.getKey());
-            if (other == null) {
+        if (this.size != ctx.size) {
+            return false;
+        }
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null && !this.values[i].equals(ctx.value(this.keys[i]))) {
                 return false;
             }
-            if (!entry.getValue().equals(other)) {
-                return false;
+        }
+        if (this.overflow != null) {
+            for (final Map.Entry<EventContextKey<?>, Object> entry : this.overflow.entrySet()) {
+                if (!entry.getValue().equals(ctx.value(entry.getKey()))) {
+                    return false;
+                }
             }
         }
         return true;
@@ -209,14 +266,31 @@ public boolean equals(@Nullable Object object) {
 
     @Override
     public int hashCode() {
-        return this.entries.hashCode();
+        // Same as the hash code of asMap()
+        int hash = 0;
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                hash += this.keys[i].hashCode() ^ this.values[i].hashCode();
+            }
+        }
+        if (this.overflow != null) {
+            hash += this.overflow.hashCode();
+        }
+        return hash;
     }
 
     @Override
     public String toString() {
         final StringJoiner joiner = new StringJoiner(", ");
-        for (Map.Entry<EventContextKey<?>, Object> entry : this.entries.entrySet()) {
-            joiner.add("\"" + entry.getKey().toString() + "\"=" + entry.getValue().toString());
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                joiner.add("\"" + this.keys[i].toString() + "\"=" + this.values[i].toString());
+            }
+        }
+        if (this.overflow != null) {
+            for (final Map.Entry<EventContextKey<?>, Object> entry : this.overflow.entrySet()) {
+                joiner.add("\"" + entry.getKey().toString() + "\"=" + entry.getValue().toString());
+            }
         }
         return "Context[" + joiner.toString() + "]";
     }
@@ -224,7 +298,10 @@ public String toString() {
     public static final class Builder implements org.spongepowered.api.util.Builder<EventContext, Builder>, CopyableBuilder<EventContext,
         Builder> {
 
-        private final Map<EventContextKey<?>, Object> entries = new HashMap<>();
+        private EventContextKey<?>[] keys = EventContext.NO_KEYS;
+        private Object[] values = EventContext.NO_VALUES;
+        private @Nullable Map<EventContextKey<?>, Object> overflow;
+        private int size;
 
         Builder() {
 
@@ -240,10 +317,10 @@ public static final class Builder implements org.spongepowered.api.util.Builder<
          */
         public <T> Builder add(EventContextKey<T> key, T value) {
             Objects.requireNonNull(value, "Context object cannot be null");
-            if (this.entries.containsKey(key)) {
+            if (this.contains(key)) {
                 throw new IllegalArgumentException("Duplicate context keys: " + key.toString());
             }
-            this.entries.put(key, value);
+            this.put(key, value);
             return this;
         }
 
@@ -260,22 +337,67 @@ public <T> Builder add(Supplier<EventContextKey<T>> key, T value) {
             Objects.requireNonNull(value, "Context object cannot be null");
             final EventContextKey<T> suppliedKey = key.get();
             Objects.requireNonNull(suppliedKey, "Supplied key cannot be null!");
-            if (this.entries.containsKey(suppliedKey)) {
+            if (this.contains(suppliedKey)) {
                 throw new IllegalArgumentException("Duplicate context keys!");
             }
-            this.entries.put(suppliedKey, value);
+            this.put(suppliedKey, value);
             return this;
         }
 
+        private boolean contains(EventContextKey<?> key) {
+            return EventContext.value(this.keys, this.values, this.overflow, key) != null;
+        }
+
+        void put(EventContextKey<?> key, Object value) {
+            final int ordinal = key.ordinal();
+            if (ordinal >= 0) {
+                if (ordinal >= this.values.length) {
+                    final int length = Math.max(ordinal + 1, this.values.length * 2);
+                    this.keys = Arrays.copyOf(this.keys, length);
+                    this.values = Arrays.copyOf(this.values, length);
+                }
+                final @Nullable EventContextKey<?> present = this.keys[ordinal];
+                if (present == null) {
+                    this.keys[ordinal] = key;
+                    this.values[ordinal] = value;
+                    this.size++;
+                    return;
+                }
+                if (present.equals(key)) {
+                    this.values[ordinal] = value;
+                    return;
+                }
+            }
+            // The slot belongs to another key with the same ordinal
+            if (this.overflow == null) {
+                this.overflow = new HashMap<>();
+            }
+            if (this.overflow.put(key, value) == null) {
+                this.size++;
+            }
+        }
+
         @Override
         public Builder from(EventContext value) {
-            this.entries.putAll(value.entries);
+            for (int i = 0; i < value.keys.length; i++) {
+                if (value.keys[i] != null) {
+                    this.put(value.keys[i], value.values[i]);
+                }
+            }
+            if (value.overflow != null) {
+                for (final Map.Entry<EventContextKey<?>, Object> entry : value.overflow.entrySet()) {
+                    this.put(entry.getKey(), entry.getValue());
+                }
+            }
             return this;
         }
 
         @Override
         public Builder reset() {
-            this.entries.clear();
+            Arrays.fill(this.keys, null);
+            Arrays.fill(this.values, null);
+            this.overflow = null;
+            this.size = 0;
             return this;
         }
 
@@ -286,7 +408,17 @@ public Builder reset() {
          */
         @Override
         public EventContext build() {
-            return new EventContext(this.entries);
+            if (this.size == 0) {
+                return EventContext.EMPTY_CONTEXT;
+            }
+            // Trim to the highest ordinal in use so lookups of keys beyond
+            // it are a single bounds check
+            int length = this.values.length;
+            while (length > 0 && this.values[length - 1] == null) {
+                length--;
+            }
+            return new EventContext(Arrays.copyOf(this.keys, length), Arrays.copyOf(this.values, length),
+                this.overflow == null ? null : Map.copyOf(this.overflow), this.size);
         }
 
     }
@@ -76,6 +76,22 @@ static Builder<?> builder() {
      */
     T cast(Object value);
 
+    /**
+     * Gets the ordinal of this key.
+     *
+     * <p>Ordinals are assigned by the implementation when a key is created
+     * and should be dense and unique among all keys, starting at
+     * {@code 0}. They are used by {@link EventContext} to store its values
+     * in a flat array, and are not stable between game sessions.</p>
+     *
+     * <p>The ordinal is only a hint for where to store the value. Keys that
+     * share an ordinal, or that return a negative one, are still kept apart,
+     * but their values are looked up in a map.</p>
+     *
+     * @return The ordinal
+     */
+    int ordinal();
+
     interface Builder<T> extends ResourceKeyedBuilder<EventContextKey<T>, Builder<T>> {
 
         <N> Builder<N> type(Class<N> allowedType);
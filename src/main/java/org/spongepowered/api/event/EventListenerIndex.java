@@ -0,0 +1,98 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import java.util.List;
+
+/**
+ * A read-only view of the dispatch index mapping concrete {@link Event}
+ * classes to the {@link EventListenerRegistration registrations} that
+ * receive them.
+ *
+ * <p>Lookups are resolved against the registrations made through the
+ * owning {@link EventManager}. Only the raw event type of a registration is
+ * considered. Filtering on generic parameters, as needed for
+ * {@link GenericEvent}s, is left to the caller.</p>
+ */
+public interface EventListenerIndex {
+
+    /**
+     * Gets the registrations receiving events of the given concrete class,
+     * sorted by {@link Order}. Registrations sharing an order keep the order
+     * in which they were registered.
+     *
+     * <p>The returned list is immutable and is not affected by later changes
+     * to this index.</p>
+     *
+     * @param eventClass The concrete event class
+     * @return The sorted registrations
+     */
+    List<EventListenerRegistration<?>> listeners(Class<? extends Event> eventClass);
+
+    /**
+     * Gets whether any registration would receive events of the given
+     * concrete class.
+     *
+     * @param eventClass The concrete event class
+     * @return True if at least one registration receives the event class
+     */
+    default boolean hasListeners(final Class<? extends Event> eventClass) {
+        return !this.listeners(eventClass).isEmpty();
+    }
+
+    /**
+     * Gets whether any registration could receive an event of the given
+     * type.
+     *
+     * <p>Unlike {@link #hasListeners(Class)}, the given type does not need
+     * to be the concrete class of the event: registrations for subtypes of
+     * it are counted as well, as an event declared as the given type may be
+     * an instance of any of them. This makes it suitable for event
+     * interfaces such as those created through the event factory.</p>
+     *
+     * @param eventType The event type
+     * @return True if at least one registration could receive the event type
+     */
+    boolean isListenedTo(Class<? extends Event> eventType);
+
+    /**
+     * Gets the current version of this index.
+     *
+     * <p>The version changes every time registrations are added to or
+     * removed from this index, so a result computed from this index may be
+     * reused for as long as the version stays the same.</p>
+     *
+     * @return The current version
+     */
+    long version();
+
+    /**
+     * Gets all registrations in this index, in registration order.
+     *
+     * @return An immutable list of all registrations
+     */
+    List<EventListenerRegistration<?>> registrations();
+
+}
@@ -56,6 +56,14 @@ static <T extends Event> EventListenerRegistration.Builder<T> builder(final Clas
 
     boolean beforeModifications();
 
+    /**
+     * Gets whether the listener is called asynchronously.
+     *
+     * @return If the listener is called asynchronously
+     * @see Listener#async()
+     */
+    boolean async();
+
     EventListener<? super T> listener();
 
     interface Builder<T extends Event> extends ResettableBuilder<EventListenerRegistration<T>, Builder<T>> {
@@ -66,8 +74,29 @@ static <T extends Event> EventListenerRegistration.Builder<T> builder(final Clas
 
         Builder<T> beforeModifications(boolean beforeModifications);
 
+        /**
+         * Sets whether the listener is called asynchronously, defaults to
+         * {@code false}.
+         *
+         * <p>Asynchronous listeners must treat the event as read-only, and
+         * cannot listen to {@link Cancellable} events. Building a registration
+         * that does fails with an {@link IllegalStateException}.</p>
+         *
+         * @param async If the listener is called asynchronously
+         * @return This builder, for chaining
+         * @see Listener#async()
+         */
+        Builder<T> async(boolean async);
+
         Builder<T> listener(EventListener<? super T> listener);
 
+        /**
+         * Builds the registration.
+         *
+         * @return The registration
+         * @throws IllegalStateException If the listener is asynchronous and
+         *     the event type is {@link Cancellable}
+         */
         EventListenerRegistration<T> build();
     }
 
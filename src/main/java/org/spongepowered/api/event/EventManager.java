@@ -27,6 +27,8 @@
 import org.spongepowered.plugin.PluginContainer;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * Manages the registration of event listeners and the dispatching of events.
@@ -46,7 +48,13 @@ public interface EventManager {
      * specified object.
      *
      * <p>This will not include any methods declared in supertypes, but will
-     * test for private and package-private listener methods.</p>
+     * test for private and package-private listener methods.
+     * {@link Listener#async() Asynchronous} listeners of {@link Cancellable}
+     * events are rejected.</p>
+     *
+     * <p>If the listener annotation processor generated
+     * {@link GeneratedEventListeners} for the class of the object, those are
+     * used instead of generating listeners at runtime.</p>
      *
      * @param plugin The plugin container
      * @param obj The object
@@ -59,9 +67,13 @@ public interface EventManager {
      * specified object.
      *
      * <p>This will not include any methods declared in supertypes, but will
-     * test for private and package-private listener methods.</p>
+     * test for private and package-private listener methods.
+     * {@link Listener#async() Asynchronous} listeners of {@link Cancellable}
+     * events are rejected.</p>
      *
-     * <p>The provided lookup will be used for privileged access to the listener object.</p>
+     * <p>The provided lookup will be used for privileged access to the listener object.
+     * As with {@link #registerListeners(PluginContainer, Object)}, generated
+     * {@link GeneratedEventListeners} are preferred when present.</p>
      *
      * @param plugin The plugin container
      * @param obj The object
@@ -84,9 +96,118 @@ public interface EventManager {
     /**
      * Calls an {@link Event} to all listeners that listen to it.
      *
+     * <p>Synchronous listeners are called on the current thread. Afterwards
+     * the event is handed to {@link Listener#async() asynchronous} listeners
+     * as with {@link #postAsync(Event)}, unless it was cancelled. The result
+     * only reflects the synchronous listeners.</p>
+     *
      * @param event The event
      * @return True if cancelled, false if not
      */
     boolean post(Event event);
 
+    /**
+     * Hands an {@link Event} to all {@link Listener#async() asynchronous}
+     * listeners that listen to it, without calling any synchronous listener.
+     *
+     * <p>Each listener is called on the
+     * {@link #asyncExecutor(PluginContainer) ordered executor} of its plugin,
+     * so listeners of one plugin see events in the order they were posted.
+     * Asynchronous listeners only read the event, see
+     * {@link Listener#async()}; the returned future completes once every
+     * listener has been called.</p>
+     *
+     * <p>If the executor of a plugin is full, its
+     * {@link OrderedEventExecutor.Backpressure backpressure policy} applies:
+     * this method may block, skip that plugin's listeners, or complete the
+     * returned future exceptionally.</p>
+     *
+     * @param event The event
+     * @return A future completing once all asynchronous listeners were called
+     */
+    CompletableFuture<Void> postAsync(Event event);
+
+    /**
+     * Gets the executor {@link Listener#async() asynchronous} listeners of the
+     * given plugin are called on.
+     *
+     * <p>Unless {@link #asyncExecutor(PluginContainer, int, OrderedEventExecutor.Backpressure) configured}
+     * otherwise, the executor is backed by the plugin's
+     * {@link org.spongepowered.api.scheduler.Scheduler#executor(PluginContainer) async scheduler executor},
+     * holds up to {@link OrderedEventExecutor#DEFAULT_CAPACITY} events and
+     * {@link OrderedEventExecutor#DEFAULT_BACKPRESSURE discards} further
+     * events when full.</p>
+     *
+     * @param plugin The plugin
+     * @return The ordered executor
+     */
+    OrderedEventExecutor asyncExecutor(PluginContainer plugin);
+
+    /**
+     * Replaces the executor {@link Listener#async() asynchronous} listeners of
+     * the given plugin are called on with one using the given queue capacity
+     * and backpressure policy.
+     *
+     * <p>Events already queued on the previous executor are still delivered.</p>
+     *
+     * @param plugin The plugin
+     * @param capacity The number of events allowed to wait in the queue
+     * @param backpressure The policy applied when the queue is full
+     * @return This manager, for fluency
+     */
+    EventManager asyncExecutor(PluginContainer plugin, int capacity, OrderedEventExecutor.Backpressure backpressure);
+
+    /**
+     * Calls the {@link Event} created by the given supplier to all listeners
+     * that listen to it, without creating the event at all if nothing
+     * {@link #isListenedTo(Class) listens} to the given event type.
+     *
+     * @param eventType The type of the event
+     * @param event The supplier of the event
+     * @param <E> The event type
+     * @return True if the event was created and cancelled, false otherwise
+     */
+    default <E extends Event> boolean post(final Class<E> eventType, final Supplier<? extends E> event) {
+        return this.isListenedTo(eventType) && this.post(event.get());
+    }
+
+    /**
+     * Gets whether any registered listener could receive an event of the
+     * given type.
+     *
+     * <p>This is intended as a cheap check before constructing events that
+     * may have no listeners at all. Call sites posting the same event type
+     * frequently should prefer keeping a {@link #gate(Class) gate}.</p>
+     *
+     * @param eventType The event type
+     * @return True if the event type is listened to
+     * @see EventListenerIndex#isListenedTo(Class)
+     */
+    default boolean isListenedTo(final Class<? extends Event> eventType) {
+        return this.listenerIndex().isListenedTo(eventType);
+    }
+
+    /**
+     * Creates a {@link EventTypeGate gate} for the given event type, backed
+     * by the {@link #listenerIndex() index} of this manager.
+     *
+     * @param eventType The event type
+     * @return The gate
+     */
+    default EventTypeGate gate(final Class<? extends Event> eventType) {
+        return new EventTypeGate(this.listenerIndex(), eventType);
+    }
+
+    /**
+     * Gets a read-only view of the {@link EventListenerIndex index} this
+     * manager dispatches events through.
+     *
+     * <p>The index reflects every registration made through this manager
+     * and is updated when listeners are registered or unregistered.
+     * Listeners can only be registered through this manager.</p>
+     *
+     * @return The listener index
+     */
+    EventListenerIndex listenerIndex();
+
 }
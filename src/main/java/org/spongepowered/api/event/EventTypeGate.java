@@ -0,0 +1,108 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A reusable guard answering whether an event type is currently listened to.
+ *
+ * <p>A gate caches the answer of
+ * {@link EventListenerIndex#isListenedTo(Class)} together with the
+ * {@link EventListenerIndex#version() version} of the index it was computed
+ * from, so that checking an open or closed gate only costs two reads while
+ * no listeners are registered or unregistered. Gates are intended to be
+ * created once and kept by high-frequency call sites, for example:</p>
+ *
+ * <pre>{@code
+ * if (this.moveGate.isOpen()) {
+ *     // build and post the event
+ * }
+ * }</pre>
+ *
+ * <p>Gates are safe to use from multiple threads.</p>
+ */
+public final class EventTypeGate {
+
+    private static final long UNKNOWN = -1L;
+
+    private final EventListenerIndex index;
+    private final Class<? extends Event> eventType;
+    // The version the state was computed at, shifted left by one, with the
+    // lowest bit holding whether the event type is listened to
+    private volatile long state = EventTypeGate.UNKNOWN;
+
+    /**
+     * Creates a gate for the given event type backed by the given index.
+     *
+     * @param index The listener index
+     * @param eventType The event type
+     */
+    public EventTypeGate(final EventListenerIndex index, final Class<? extends Event> eventType) {
+        this.index = Objects.requireNonNull(index, "index");
+        this.eventType = Objects.requireNonNull(eventType, "eventType");
+    }
+
+    /**
+     * Gets the event type guarded by this gate.
+     *
+     * @return The event type
+     */
+    public Class<? extends Event> eventType() {
+        return this.eventType;
+    }
+
+    /**
+     * Gets whether any listener could currently receive the event type of
+     * this gate.
+     *
+     * @return True if the event type is listened to
+     */
+    public boolean isOpen() {
+        final long state = this.state;
+        final long version = this.index.version();
+        if (state != EventTypeGate.UNKNOWN && state >>> 1 == version) {
+            return (state & 1L) != 0;
+        }
+        final boolean open = this.index.isListenedTo(this.eventType);
+        this.state = version << 1 | (open ? 1L : 0L);
+        return open;
+    }
+
+    /**
+     * Posts the event created by the given supplier through the given
+     * manager, only creating the event if this gate is open.
+     *
+     * @param eventManager The event manager
+     * @param event The supplier of the event
+     * @param <E> The event type
+     * @return True if the event was created and cancelled, false otherwise
+     */
+    public <E extends Event> boolean post(final EventManager eventManager, final Supplier<? extends E> event) {
+        return this.isOpen() && eventManager.post(event.get());
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Provides the {@link EventListenerRegistration registrations} for all
+ * {@link Listener} methods declared in a listener class, without the use of
+ * reflection or runtime class generation.
+ *
+ * <p>Implementations are generated at compile time by the listener
+ * annotation processor shipped with the API, next to the listener class and
+ * named after its binary name followed by {@link #CLASS_SUFFIX}. A class is
+ * only generated if every listener method and parameter filter in the
+ * listener class is supported by the processor, otherwise the
+ * {@link EventManager} falls back to its runtime listener generation.</p>
+ *
+ * @param <T> The type of the listener class
+ */
+public interface GeneratedEventListeners<T> {
+
+    /**
+     * The suffix appended to the binary name of a listener class to get the
+     * name of its generated listeners class.
+     */
+    String CLASS_SUFFIX = "$SpongeListeners";
+
+    /**
+     * Finds and instantiates the generated listeners for the given listener
+     * class, if there are any.
+     *
+     * @param listenerClass The listener class
+     * @param <T> The type of the listener class
+     * @return The generated listeners, if available
+     * @throws IllegalStateException If the generated class exists but could
+     *     not be instantiated
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Optional<GeneratedEventListeners<T>> find(final Class<T> listenerClass) {
+        final Class<?> generated;
+        try {
+            generated = Class.forName(listenerClass.getName() + GeneratedEventListeners.CLASS_SUFFIX, true, listenerClass.getClassLoader());
+        } catch (final ClassNotFoundException ex) {
+            return Optional.empty();
+        }
+        if (!GeneratedEventListeners.class.isAssignableFrom(generated)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of((GeneratedEventListeners<T>) generated.getConstructor().newInstance());
+        } catch (final ReflectiveOperationException ex) {
+            throw new IllegalStateException("Could not instantiate generated listeners " + generated.getName(), ex);
+        }
+    }
+
+    /**
+     * Creates the registrations for all listener methods of the given
+     * listener object, in declaration order.
+     *
+     * <p>The listeners of the registrations evaluate the parameter filters
+     * of each method and invoke the method directly.</p>
+     *
+     * @param plugin The plugin registering the listeners
+     * @param listener The listener object
+     * @return The listener registrations
+     */
+    List<EventListenerRegistration<?>> registrations(PluginContainer plugin, T listener);
+
+}
@@ -53,4 +53,24 @@
      */
     boolean beforeModifications() default false;
 
+    /**
+     * Whether this listener should be called asynchronously, off the thread
+     * the event was posted on.
+     *
+     * <p>Asynchronous listeners of a plugin are called in the order events
+     * were posted, on the executor returned by
+     * {@link EventManager#asyncExecutor(org.spongepowered.plugin.PluginContainer)}.
+     * They are called after all synchronous listeners have handled the event,
+     * when its outcome has already been decided.</p>
+     *
+     * <p>Asynchronous listeners must treat the event as read-only: they must
+     * not call {@link Cancellable#setCancelled(boolean)} or any setter of the
+     * event, which may be in use on the posting thread at the same time. For
+     * this reason a listener for a {@link Cancellable} event cannot be
+     * asynchronous, and registering one fails.</p>
+     *
+     * @return If the listener should be called asynchronously
+     */
+    boolean async() default false;
+
 }
@@ -0,0 +1,270 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An {@link Executor} running tasks one at a time, in submission order, on
+ * top of another executor.
+ *
+ * <p>Asynchronous listeners of a plugin are called through one of these,
+ * typically backed by the plugin's
+ * {@link org.spongepowered.api.scheduler.Scheduler#executor(org.spongepowered.plugin.PluginContainer)
+ * scheduler executor}, so that they observe events in the order they were
+ * posted without occupying more than one thread of the backing executor at a
+ * time.</p>
+ *
+ * <p>At most {@link #capacity()} tasks wait to be run. What happens to a
+ * task submitted while the queue is full is decided by the
+ * {@link Backpressure backpressure policy} of this executor.</p>
+ */
+public final class OrderedEventExecutor implements Executor {
+
+    /**
+     * The default number of tasks allowed to wait in the queue.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The default policy applied when the queue is full. Events are dropped
+     * rather than stalling the thread posting them, which is usually the
+     * main thread.
+     */
+    public static final Backpressure DEFAULT_BACKPRESSURE = Backpressure.DISCARD;
+
+    // The number of tasks run before handing the thread back to the backing
+    // executor, so one busy plugin can't hold on to a pooled thread forever
+    private static final int BATCH_SIZE = 64;
+
+    private final Executor executor;
+    private final int capacity;
+    private final Backpressure backpressure;
+    private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = this.lock.newCondition();
+    private boolean scheduled;
+    private long discarded;
+
+    /**
+     * Creates a new ordered executor.
+     *
+     * @param executor The executor tasks are run on
+     * @param capacity The number of tasks allowed to wait in the queue
+     * @param backpressure The policy applied when the queue is full
+     */
+    public OrderedEventExecutor(final Executor executor, final int capacity, final Backpressure backpressure) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.capacity = capacity;
+        this.backpressure = Objects.requireNonNull(backpressure, "backpressure");
+    }
+
+    /**
+     * Gets the number of tasks allowed to wait in the queue.
+     *
+     * @return The capacity
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Gets the policy applied when a task is submitted while the queue is
+     * full.
+     *
+     * @return The backpressure policy
+     */
+    public Backpressure backpressure() {
+        return this.backpressure;
+    }
+
+    /**
+     * Gets the number of tasks currently waiting to be run.
+     *
+     * @return The number of queued tasks
+     */
+    public int queued() {
+        this.lock.lock();
+        try {
+            return this.queue.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of tasks that were dropped by the
+     * {@link Backpressure#DISCARD} policy.
+     *
+     * @return The number of discarded tasks
+     */
+    public long discarded() {
+        this.lock.lock();
+        try {
+            return this.discarded;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws RejectedExecutionException If the queue is full and the policy
+     *     is {@link Backpressure#REJECT}, or if the thread was interrupted
+     *     while waiting under {@link Backpressure#BLOCK}
+     */
+    @Override
+    public void execute(final Runnable task) {
+        Objects.requireNonNull(task, "task");
+        this.lock.lock();
+        try {
+            while (this.queue.size() >= this.capacity) {
+                switch (this.backpressure) {
+                    case BLOCK:
+                        try {
+                            this.notFull.await();
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new RejectedExecutionException("Interrupted while waiting for queue space", e);
+                        }
+                        break;
+                    case DISCARD:
+                        this.discarded++;
+                        return;
+                    default:
+                        throw new RejectedExecutionException("Queue is full (" + this.capacity + " tasks)");
+                }
+            }
+            this.queue.add(task);
+            if (this.scheduled) {
+                return;
+            }
+            this.scheduled = true;
+        } finally {
+            this.lock.unlock();
+        }
+        this.schedule();
+    }
+
+    private void schedule() {
+        try {
+            this.executor.execute(this::drain);
+        } catch (final RuntimeException e) {
+            this.lock.lock();
+            try {
+                this.scheduled = false;
+            } finally {
+                this.lock.unlock();
+            }
+            throw e;
+        }
+    }
+
+    private void drain() {
+        for (int i = 0; i < OrderedEventExecutor.BATCH_SIZE; i++) {
+            final Runnable task;
+            this.lock.lock();
+            try {
+                task = this.queue.poll();
+                if (task == null) {
+                    this.scheduled = false;
+                    return;
+                }
+                this.notFull.signal();
+            } finally {
+                this.lock.unlock();
+            }
+            try {
+                task.run();
+            } catch (final RuntimeException e) {
+                final Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            } catch (final Error e) {
+                // Hand the remaining tasks to a new drain before letting the
+                // error through, or no drain would ever be scheduled again
+                try {
+                    this.continueDraining();
+                } catch (final RuntimeException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        }
+        this.continueDraining();
+    }
+
+    private void continueDraining() {
+        this.lock.lock();
+        try {
+            if (this.queue.isEmpty()) {
+                this.scheduled = false;
+                return;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        this.schedule();
+    }
+
+    /**
+     * The policy applied when a task is submitted while the queue of an
+     * {@link OrderedEventExecutor} is full.
+     */
+    public enum Backpressure {
+
+        /**
+         * The submitting thread waits until there is room in the queue.
+         *
+         * <p>This must not be used when the submitting thread may itself be
+         * needed to run the queued tasks, nor when events are posted on the
+         * main thread, which would stall the server until a listener catches
+         * up.</p>
+         */
+        BLOCK,
+
+        /**
+         * The task is silently dropped and counted as
+         * {@link OrderedEventExecutor#discarded() discarded}.
+         */
+        DISCARD,
+
+        /**
+         * A {@link RejectedExecutionException} is thrown to the submitting
+         * thread.
+         */
+        REJECT
+
+    }
+
+}
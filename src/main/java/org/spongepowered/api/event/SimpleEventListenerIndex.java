@@ -0,0 +1,180 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import io.leangen.geantyref.GenericTypeReflector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * A mutable {@link EventListenerIndex} for {@link EventManager}
+ * implementations to dispatch through.
+ *
+ * <p>For every concrete event class that is looked up, the index resolves
+ * all registrations whose raw event type is a supertype of that class and
+ * freezes them into a list sorted by {@link Order}. Resolved lists are
+ * cached until the set of registrations changes, at which point the index is
+ * rebuilt copy-on-write: lookups in progress keep using the previous
+ * snapshot, and no lookup ever blocks on a registration.</p>
+ *
+ * <p>Event managers should only hand out this index as an
+ * {@link EventListenerIndex}, keeping registration to themselves.</p>
+ */
+public final class SimpleEventListenerIndex implements EventListenerIndex {
+
+    private static final Comparator<EventListenerRegistration<?>> BY_ORDER = Comparator.comparing(EventListenerRegistration::order);
+
+    private volatile Snapshot snapshot = new Snapshot(new EventListenerRegistration<?>[0], 0);
+
+    /**
+     * Adds a registration to this index.
+     *
+     * @param registration The registration
+     */
+    public void register(final EventListenerRegistration<?> registration) {
+        this.registerAll(List.of(Objects.requireNonNull(registration, "registration")));
+    }
+
+    /**
+     * Adds all the given registrations to this index, rebuilding it only
+     * once.
+     *
+     * @param registrations The registrations
+     */
+    public synchronized void registerAll(final Collection<? extends EventListenerRegistration<?>> registrations) {
+        if (registrations.isEmpty()) {
+            return;
+        }
+        final EventListenerRegistration<?>[] current = this.snapshot.registrations;
+        final EventListenerRegistration<?>[] updated = Arrays.copyOf(current, current.length + registrations.size());
+        int index = current.length;
+        for (final EventListenerRegistration<?> registration : registrations) {
+            updated[index++] = Objects.requireNonNull(registration, "registration");
+        }
+        this.snapshot = new Snapshot(updated, this.snapshot.version + 1);
+    }
+
+    /**
+     * Removes every registration matching the given filter from this index.
+     *
+     * @param filter The filter
+     * @return True if any registration was removed
+     */
+    public synchronized boolean unregister(final Predicate<? super EventListenerRegistration<?>> filter) {
+        Objects.requireNonNull(filter, "filter");
+        final EventListenerRegistration<?>[] current = this.snapshot.registrations;
+        final List<EventListenerRegistration<?>> retained = new ArrayList<>(current.length);
+        for (final EventListenerRegistration<?> registration : current) {
+            if (!filter.test(registration)) {
+                retained.add(registration);
+            }
+        }
+        if (retained.size() == current.length) {
+            return false;
+        }
+        this.snapshot = new Snapshot(retained.toArray(new EventListenerRegistration<?>[0]), this.snapshot.version + 1);
+        return true;
+    }
+
+    @Override
+    public List<EventListenerRegistration<?>> listeners(final Class<? extends Event> eventClass) {
+        final Snapshot snapshot = this.snapshot;
+        final List<EventListenerRegistration<?>> listeners = snapshot.resolved.get(eventClass);
+        if (listeners != null) {
+            return listeners;
+        }
+        return snapshot.resolved.computeIfAbsent(Objects.requireNonNull(eventClass, "eventClass"), snapshot::resolve);
+    }
+
+    @Override
+    public boolean isListenedTo(final Class<? extends Event> eventType) {
+        final Snapshot snapshot = this.snapshot;
+        final Boolean listened = snapshot.listened.get(eventType);
+        if (listened != null) {
+            return listened;
+        }
+        return snapshot.listened.computeIfAbsent(Objects.requireNonNull(eventType, "eventType"), snapshot::isListenedTo);
+    }
+
+    @Override
+    public long version() {
+        return this.snapshot.version;
+    }
+
+    @Override
+    public List<EventListenerRegistration<?>> registrations() {
+        return List.of(this.snapshot.registrations);
+    }
+
+    private static final class Snapshot {
+
+        final EventListenerRegistration<?>[] registrations;
+        final Class<?>[] rawTypes;
+        final long version;
+        final Map<Class<?>, List<EventListenerRegistration<?>>> resolved = new ConcurrentHashMap<>();
+        final Map<Class<?>, Boolean> listened = new ConcurrentHashMap<>();
+
+        Snapshot(final EventListenerRegistration<?>[] registrations, final long version) {
+            this.registrations = registrations;
+            this.version = version;
+            this.rawTypes = new Class<?>[registrations.length];
+            for (int i = 0; i < registrations.length; i++) {
+                this.rawTypes[i] = GenericTypeReflector.erase(registrations[i].eventType());
+            }
+        }
+
+        List<EventListenerRegistration<?>> resolve(final Class<?> eventClass) {
+            final List<EventListenerRegistration<?>> matching = new ArrayList<>();
+            for (int i = 0; i < this.registrations.length; i++) {
+                if (this.rawTypes[i].isAssignableFrom(eventClass)) {
+                    matching.add(this.registrations[i]);
+                }
+            }
+            if (matching.isEmpty()) {
+                return List.of();
+            }
+            matching.sort(SimpleEventListenerIndex.BY_ORDER);
+            return List.copyOf(matching);
+        }
+
+        Boolean isListenedTo(final Class<?> eventType) {
+            for (final Class<?> rawType : this.rawTypes) {
+                if (rawType.isAssignableFrom(eventType) || eventType.isAssignableFrom(rawType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
@@ -28,14 +28,59 @@
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 /**
  * A ChannelStream allows for plugins and the server to read and write Java
  * primitive data and some higher level data to {@link DataView} if necessary.
+ *
+ * <p>Buffers are reference counted. Buffers handed to payload consumers and
+ * handlers are owned by the channel and only valid for the duration of the
+ * call; {@link #retain() retain} one to keep it longer, and
+ * {@link #release() release} it once done. Buffers obtained from a
+ * {@link ChannelBufAllocator} must always be released.</p>
  */
 public interface ChannelBuf {
 
+    /**
+     * Gets the reference count of this buffer. The buffer may no longer be
+     * accessed once it drops to zero.
+     *
+     * @return The reference count
+     */
+    int refCount();
+
+    /**
+     * Increases the {@link #refCount() reference count} of this buffer by
+     * one.
+     *
+     * @return This stream for chaining
+     */
+    ChannelBuf retain();
+
+    /**
+     * Decreases the {@link #refCount() reference count} of this buffer by
+     * one, returning its memory to its allocator once it reaches zero.
+     *
+     * @return True if the reference count reached zero
+     */
+    boolean release();
+
+    /**
+     * Returns a read-only view of this buffer's readable bytes, sharing its
+     * content and {@link #refCount() reference count}, with separate
+     * indexes. Attempting to modify the view fails with a
+     * {@link UnsupportedOperationException}.
+     *
+     * <p>Such views can be sent to several connections without copying the
+     * content for each of them.</p>
+     *
+     * @return The read-only view
+     */
+    ChannelBuf asReadOnly();
+
     /**
      * Gets the number of bytes this buffer can contain.
      *
@@ -141,6 +186,22 @@ public interface ChannelBuf {
      */
     ChannelBuf readSlice(int length);
 
+    /**
+     * Returns a slice of the byte array at the current readerIndex, without
+     * copying it as {@link #readByteArray()} does, and increases the
+     * readerIndex by the length of the array and the length of the array
+     * size.
+     *
+     * <p>The length of the array is expected to be preceding the array as a
+     * varint. The slice shares the content of this buffer, so it is only
+     * valid as long as this buffer is.</p>
+     *
+     * @return The sliced stream
+     */
+    default ChannelBuf readByteArraySlice() {
+        return this.readSlice(this.readVarInt());
+    }
+
     /**
      * Returns {@code true} if and only if this buffer has a backing byte array.
      *
@@ -350,6 +411,20 @@ public interface ChannelBuf {
      */
     ChannelBuf writeBytes(byte[] data, int start, int length);
 
+    /**
+     * Sets the specified bytes of the source buffer at the current
+     * writerIndex and increases the writerIndex by the length specified.
+     * This method does not modify the readerIndex or writerIndex of the
+     * source buffer, so a read-only view may be copied from by several
+     * threads at once.
+     *
+     * @param source The source buffer
+     * @param index The index of the first byte to copy from the source buffer
+     * @param length The number of bytes to copy
+     * @return This stream for chaining
+     */
+    ChannelBuf writeBytes(ChannelBuf source, int index, int length);
+
     /**
      * Sets the specified byte array at the specified absolute index in this
      * buffer. This method does not modify readerIndex or writerIndex
@@ -943,6 +1018,31 @@ public interface ChannelBuf {
      */
     String getString(int index);
 
+    /**
+     * Gets a string at the current readerIndex as {@link #readString()} does,
+     * decoding it straight from this buffer rather than copying its bytes
+     * into an intermediate array first.
+     *
+     * @return The string
+     */
+    default CharSequence readCharSequence() {
+        return this.readCharSequence(this.readVarInt(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets a sequence of characters of the given number of bytes at the
+     * current readerIndex, decoded with the given charset, and increases the
+     * readerIndex by that number of bytes.
+     *
+     * <p>The bytes are decoded straight from this buffer, without copying
+     * them into an intermediate array first.</p>
+     *
+     * @param length The number of bytes to decode
+     * @param charset The charset of the bytes
+     * @return The sequence of characters
+     */
+    CharSequence readCharSequence(int length, Charset charset);
+
     /**
      * Sets the specified string at the current writerIndex and increases the
      * writerIndex by the length of the string.
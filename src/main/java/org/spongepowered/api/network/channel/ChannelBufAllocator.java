@@ -0,0 +1,66 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network.channel;
+
+/**
+ * Allocates {@link ChannelBuf}s, reusing the memory of buffers that were
+ * {@link ChannelBuf#release() released}.
+ *
+ * <p>Buffers are pooled and, unless stated otherwise, use direct memory so
+ * that they can be handed to connections without an extra copy. Every
+ * allocated buffer starts with a {@link ChannelBuf#refCount() reference count}
+ * of one and must be released once it is no longer needed, or its memory is
+ * not returned to the pool.</p>
+ */
+public interface ChannelBufAllocator {
+
+    /**
+     * Allocates a buffer with a default initial capacity.
+     *
+     * @return The buffer
+     */
+    ChannelBuf buffer();
+
+    /**
+     * Allocates a buffer with the given initial capacity. The buffer grows
+     * as needed when written to.
+     *
+     * @param initialCapacity The initial capacity, in bytes
+     * @return The buffer
+     * @throws IllegalArgumentException If the capacity is negative
+     */
+    ChannelBuf buffer(int initialCapacity);
+
+    /**
+     * Allocates a buffer backed by a byte array, for data that is mostly
+     * accessed through {@link ChannelBuf#array()}.
+     *
+     * @param initialCapacity The initial capacity, in bytes
+     * @return The buffer
+     * @throws IllegalArgumentException If the capacity is negative
+     */
+    ChannelBuf heapBuffer(int initialCapacity);
+
+}
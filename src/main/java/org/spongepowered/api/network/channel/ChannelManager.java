@@ -62,4 +62,12 @@ public interface ChannelManager {
      * @return The channels
      */
     Collection<Channel> channels();
+
+    /**
+     * Gets the allocator of pooled {@link ChannelBuf}s, shared with the
+     * buffers channels send and receive data through.
+     *
+     * @return The buffer allocator
+     */
+    ChannelBufAllocator allocator();
 }
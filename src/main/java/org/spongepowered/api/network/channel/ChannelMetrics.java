@@ -0,0 +1,85 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network.channel;
+
+/**
+ * Traffic statistics of a {@link Channel}, as of the moment they were
+ * retrieved.
+ *
+ * <p>Only data sent by this side of the connections is accounted for.</p>
+ */
+public interface ChannelMetrics {
+
+    /**
+     * Gets the number of ticks the statistics were collected over.
+     *
+     * @return The number of ticks
+     */
+    long ticks();
+
+    /**
+     * Gets the number of packets or payloads sent.
+     *
+     * @return The number of packets
+     */
+    long packets();
+
+    /**
+     * Gets the number of bytes sent, excluding the framing added by the
+     * connection.
+     *
+     * @return The number of bytes
+     */
+    long bytes();
+
+    /**
+     * Gets the number of times connections were flushed to send the
+     * packets of this channel.
+     *
+     * @return The number of flushes
+     */
+    long flushes();
+
+    /**
+     * Gets the average number of packets sent per flush.
+     *
+     * @return The packets per flush, or zero if nothing was flushed yet
+     */
+    default double packetsPerFlush() {
+        final long flushes = this.flushes();
+        return flushes == 0 ? 0 : (double) this.packets() / flushes;
+    }
+
+    /**
+     * Gets the average number of bytes sent per tick.
+     *
+     * @return The bytes per tick, or zero if no tick passed yet
+     */
+    default double bytesPerTick() {
+        final long ticks = this.ticks();
+        return ticks == 0 ? 0 : (double) this.bytes() / ticks;
+    }
+
+}
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.network.EngineConnection;
 import org.spongepowered.api.network.channel.Channel;
+import org.spongepowered.api.network.channel.ChannelMetrics;
 import org.spongepowered.api.network.channel.packet.basic.BasicPacketChannel;
 
 /**
@@ -44,4 +45,66 @@
  */
 public interface PacketChannel extends Channel, TransactionalPacketRegistry, TransactionalPacketDispatcher {
 
+    /**
+     * Gets the {@link FlushMode} of this channel.
+     *
+     * <p>By default, packets are flushed {@link FlushMode#IMMEDIATE immediately}.</p>
+     *
+     * @return The flush mode
+     */
+    FlushMode flushMode();
+
+    /**
+     * Sets the {@link FlushMode} of this channel. Packets already queued are
+     * flushed at the end of the current tick regardless of the new mode.
+     *
+     * @param mode The flush mode
+     */
+    void setFlushMode(FlushMode mode);
+
+    /**
+     * Immediately flushes the packets of this channel queued for the given
+     * connection, if any.
+     *
+     * @param connection The connection to flush
+     */
+    void flush(EngineConnection connection);
+
+    /**
+     * Gets the traffic statistics of this channel, such as the number of
+     * packets per flush and bytes per tick.
+     *
+     * @return The metrics
+     */
+    ChannelMetrics metrics();
+
+    /**
+     * Determines when the packets sent through a {@link PacketChannel} are
+     * written to and flushed on their connection.
+     *
+     * <p>The futures returned when sending packets complete once the packet
+     * was flushed.</p>
+     */
+    enum FlushMode {
+        /**
+         * Each packet is written and flushed on its own as soon as it is
+         * sent.
+         */
+        IMMEDIATE,
+        /**
+         * Packets sent to the same connection during a tick are queued and
+         * flushed together, in the order they were sent, at the end of the
+         * tick.
+         */
+        END_OF_TICK,
+        /**
+         * Like {@link #END_OF_TICK}, but the queued packets of a connection
+         * are also combined into a single framed payload, which the channel
+         * on the other side splits again before handling each packet.
+         *
+         * <p>Connections whose other side cannot split bundles fall back
+         * to {@link #END_OF_TICK}.</p>
+         */
+        BUNDLED,
+    }
 }
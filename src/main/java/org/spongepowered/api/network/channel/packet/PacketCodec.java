@@ -0,0 +1,97 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network.channel.packet;
+
+import org.spongepowered.api.network.channel.ChannelBuf;
+
+import java.util.Optional;
+
+/**
+ * Reads and writes a record from and to a {@link ChannelBuf}, following
+ * the wire format described by the {@link PacketField} annotations of its
+ * components.
+ *
+ * <p>Implementations are generated at compile time by the annotation
+ * processor shipped with the API, next to the record and named after its
+ * binary name followed by {@link #CLASS_SUFFIX}. The generated code reads
+ * and writes the components in a single pass, without reflection.</p>
+ *
+ * @param <R> The type of the record
+ */
+public interface PacketCodec<R extends Record> {
+
+    /**
+     * The suffix appended to the binary name of a record to get the name of
+     * its generated codec class.
+     */
+    String CLASS_SUFFIX = "$PacketCodec";
+
+    /**
+     * Finds and instantiates the generated codec for the given record, if
+     * there is one.
+     *
+     * @param recordClass The record class
+     * @param <R> The type of the record
+     * @return The generated codec, if available
+     * @throws IllegalStateException If the generated class exists but could
+     *     not be instantiated
+     */
+    @SuppressWarnings("unchecked")
+    static <R extends Record> Optional<PacketCodec<R>> find(final Class<R> recordClass) {
+        final Class<?> generated;
+        try {
+            generated = Class.forName(recordClass.getName() + PacketCodec.CLASS_SUFFIX, true, recordClass.getClassLoader());
+        } catch (final ClassNotFoundException ex) {
+            return Optional.empty();
+        }
+        if (!PacketCodec.class.isAssignableFrom(generated)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of((PacketCodec<R>) generated.getConstructor().newInstance());
+        } catch (final ReflectiveOperationException ex) {
+            throw new IllegalStateException("Could not instantiate generated codec " + generated.getName(), ex);
+        }
+    }
+
+    /**
+     * Reads a record from the buffer.
+     *
+     * @param buf The buffer to read from
+     * @return The record
+     * @throws org.spongepowered.api.network.channel.ChannelIOException If
+     *     the data is malformed or exceeds a {@link PacketField#maxLength()}
+     */
+    R read(ChannelBuf buf);
+
+    /**
+     * Writes a record to the buffer.
+     *
+     * @param buf The buffer to write to
+     * @param value The record
+     */
+    void write(ChannelBuf buf, R value);
+
+}
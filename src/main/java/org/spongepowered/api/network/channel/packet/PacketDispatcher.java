@@ -30,6 +30,7 @@
 import org.spongepowered.api.world.server.ServerWorld;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * Represents a dispatcher of packets.
@@ -51,6 +52,9 @@ public interface PacketDispatcher {
     /**
      * Sends the {@link Packet} to all players on the server.
      *
+     * <p>Implementations should write the packet only once, as described
+     * for {@link #sendToAll(Iterable, Packet)}.</p>
+     *
      * <p>A exception will be thrown if the specified packet type
      * isn't registered in the {@link PacketChannel} this dispatcher
      * belongs to.</p>
@@ -58,12 +62,15 @@ public interface PacketDispatcher {
      * @param packet The packet to send
      */
     default void sendToAllPlayers(final Packet packet) {
-        Sponge.server().streamOnlinePlayers().forEach(player -> this.sendTo(player, packet));
+        this.sendToAll(Sponge.server().streamOnlinePlayers().map(ServerPlayer::connection).collect(Collectors.toList()), packet);
     }
 
     /**
      * Sends the {@link Packet} to all players in the given world.
      *
+     * <p>Implementations should write the packet only once, as described
+     * for {@link #sendToAll(Iterable, Packet)}.</p>
+     *
      * <p>A exception will be thrown if the specified packet type
      * isn't registered in the {@link PacketChannel} this dispatcher
      * belongs to.</p>
@@ -72,7 +79,29 @@ default void sendToAllPlayers(final Packet packet) {
      * @param packet The packet to send
      */
     default void sendToAllPlayersIn(final ServerWorld world, final Packet packet) {
-        world.players().forEach(player -> this.sendTo(player, packet));
+        this.sendToAll(world.players().stream().map(ServerPlayer::connection).collect(Collectors.toList()), packet);
+    }
+
+    /**
+     * Sends the {@link Packet} to each of the given connections using this
+     * channel.
+     *
+     * <p>Implementations should {@link Packet#write(org.spongepowered.api.network.channel.ChannelBuf) write}
+     * the packet only once, into a read-only buffer shared by all
+     * connections, rather than once per connection. The packet must
+     * therefore not depend on the connection it is sent to. The default
+     * implementation does not do this, and sends the packet to each
+     * connection in turn.</p>
+     *
+     * <p>A exception will be thrown if the specified packet type
+     * isn't registered in the {@link PacketChannel} this dispatcher
+     * belongs to.</p>
+     *
+     * @param connections The connections to send the packet to
+     * @param packet The packet to send
+     */
+    default void sendToAll(final Iterable<? extends EngineConnection> connections, final Packet packet) {
+        connections.forEach(connection -> this.sendTo(connection, packet));
     }
 
     /**
@@ -0,0 +1,86 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network.channel.packet;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a record component as part of the wire format of its record, for
+ * which the annotation processor shipped with the API generates a
+ * {@link PacketCodec}.
+ *
+ * <p>Every component of such a record must be annotated. Components are
+ * written in declaration order, using the following encodings:</p>
+ *
+ * <ul>
+ *     <li>{@code int} and {@code long} as varints, unless
+ *     {@link #fixedWidth()}; other primitives at their fixed width</li>
+ *     <li>{@link String}s as their UTF-8 length as a varint followed by the
+ *     UTF-8 bytes</li>
+ *     <li>{@link java.util.UUID}s as two longs</li>
+ *     <li>{@code byte[]}s as their length as a varint followed by the
+ *     bytes</li>
+ *     <li>enums as the varint of their ordinal</li>
+ *     <li>records whose components are annotated, through their own
+ *     generated codec</li>
+ *     <li>{@link java.util.List}s of any of the supported reference types as
+ *     their size as a varint followed by the elements</li>
+ *     <li>{@link java.util.Optional}s of any of the supported reference types
+ *     as a boolean followed by the value, if present</li>
+ * </ul>
+ *
+ * <p>Boxed primitives are only supported as elements of lists and
+ * optionals, and are encoded as their primitive. Other components must not
+ * be {@code null}.</p>
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface PacketField {
+
+    /**
+     * Whether an {@code int} or {@code long} component is written at its
+     * fixed width rather than as a varint, which is shorter for values that
+     * are usually large or negative, such as hashes. It also applies to
+     * lists and optionals of {@code int}s and {@code long}s, and is a compile
+     * error on any other component.
+     *
+     * @return If the component is written at its fixed width
+     */
+    boolean fixedWidth() default false;
+
+    /**
+     * The maximum length of a {@link String} (in UTF-8 bytes), {@code byte[]}
+     * or {@link java.util.List} component. Reading a longer value fails with
+     * a {@link org.spongepowered.api.network.channel.ChannelIOException}
+     * before anything is allocated for it.
+     *
+     * @return The maximum length
+     */
+    int maxLength() default Integer.MAX_VALUE;
+
+}
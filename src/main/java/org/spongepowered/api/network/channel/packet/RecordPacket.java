@@ -0,0 +1,110 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network.channel.packet;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.network.channel.ChannelBuf;
+
+/**
+ * A {@link Packet} carrying a record, read and written through its
+ * generated {@link PacketCodec}.
+ *
+ * <p>Subclasses only need to provide the no-args constructor required of
+ * packets, passing the record class to this one.</p>
+ *
+ * @param <R> The type of the record
+ */
+public abstract class RecordPacket<R extends Record> implements Packet {
+
+    // Generated codecs are stateless, so all packets of a record class share one
+    private static final ClassValue<PacketCodec<?>> CODECS = new ClassValue<>() {
+        @Override
+        protected PacketCodec<?> computeValue(final Class<?> type) {
+            return PacketCodec.find(type.asSubclass(Record.class))
+                .orElseThrow(() -> new IllegalArgumentException("No codec was generated for " + type.getName()));
+        }
+    };
+
+    private final PacketCodec<R> codec;
+    private @Nullable R value;
+
+    /**
+     * Creates a packet for the given record class.
+     *
+     * @param recordClass The record class
+     * @throws IllegalArgumentException If no codec was generated for the
+     *     record class
+     */
+    @SuppressWarnings("unchecked")
+    protected RecordPacket(final Class<R> recordClass) {
+        this.codec = (PacketCodec<R>) RecordPacket.CODECS.get(recordClass);
+    }
+
+    /**
+     * Creates a packet carrying the given record.
+     *
+     * @param recordClass The record class
+     * @param value The record
+     * @throws IllegalArgumentException If no codec was generated for the
+     *     record class
+     */
+    protected RecordPacket(final Class<R> recordClass, final R value) {
+        this(recordClass);
+        this.value = value;
+    }
+
+    /**
+     * Gets the record carried by this packet.
+     *
+     * @return The record
+     * @throws IllegalStateException If no record was set or read yet
+     */
+    public R value() {
+        if (this.value == null) {
+            throw new IllegalStateException("No record was set or read yet");
+        }
+        return this.value;
+    }
+
+    /**
+     * Sets the record carried by this packet.
+     *
+     * @param value The record
+     */
+    public void setValue(final R value) {
+        this.value = value;
+    }
+
+    @Override
+    public void read(final ChannelBuf buf) {
+        this.value = this.codec.read(buf);
+    }
+
+    @Override
+    public void write(final ChannelBuf buf) {
+        this.codec.write(buf, this.value());
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network.channel.raw.play;
+
+import org.spongepowered.api.network.channel.ChannelBuf;
+import org.spongepowered.api.network.channel.ChannelBufAllocator;
+
+import java.util.function.Consumer;
+
+/**
+ * A payload that is written by its consumer only once, into a pooled buffer
+ * held as a read-only view, which is then copied into every buffer the
+ * payload is accepted by.
+ *
+ * <p>The view holds a reference to the pooled buffer until
+ * {@link #release() released}.</p>
+ */
+final class EncodedPayload implements Consumer<ChannelBuf> {
+
+    private final ChannelBuf encoded;
+
+    EncodedPayload(final ChannelBufAllocator allocator, final Consumer<ChannelBuf> payload) {
+        final ChannelBuf buf = allocator.buffer();
+        try {
+            payload.accept(buf);
+        } catch (final RuntimeException | Error e) {
+            buf.release();
+            throw e;
+        }
+        this.encoded = buf.asReadOnly();
+    }
+
+    @Override
+    public void accept(final ChannelBuf buf) {
+        buf.writeBytes(this.encoded, this.encoded.readerIndex(), this.encoded.available());
+    }
+
+    /**
+     * Releases the encoded payload, after which it may no longer be
+     * accepted.
+     */
+    void release() {
+        this.encoded.release();
+    }
+
+}
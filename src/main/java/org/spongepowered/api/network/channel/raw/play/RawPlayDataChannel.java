@@ -35,8 +35,11 @@
 import org.spongepowered.api.network.channel.raw.handshake.RawHandshakeDataChannel;
 import org.spongepowered.api.world.server.ServerWorld;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Represents a channel that sends and receives raw data. This
@@ -102,10 +105,13 @@ public interface RawPlayDataChannel {
     /**
      * Sends the raw payload to all players on the server.
      *
+     * <p>The payload is written only once, as with
+     * {@link #sendToAll(Iterable, Consumer)}.</p>
+     *
      * @param payload A consumer to write the data to
      */
     default void sendToAllPlayers(final Consumer<ChannelBuf> payload) {
-        Sponge.server().streamOnlinePlayers().forEach(player -> this.sendTo(player, payload));
+        this.sendToAll(Sponge.server().streamOnlinePlayers().map(ServerPlayer::connection).collect(Collectors.toList()), payload);
     }
 
     /**
@@ -115,11 +121,37 @@ default void sendToAllPlayers(final Consumer<ChannelBuf> payload) {
      * isn't registered in the {@link PacketChannel} this dispatcher
      * belongs to.</p>
      *
+     * <p>The payload is written only once, as with
+     * {@link #sendToAll(Iterable, Consumer)}.</p>
+     *
      * @param world The world
      * @param payload A consumer to write the data to
      */
     default void sendToAllPlayersIn(final ServerWorld world, final Consumer<ChannelBuf> payload) {
-        world.players().forEach(player -> this.sendTo(player, payload));
+        this.sendToAll(world.players().stream().map(ServerPlayer::connection).collect(Collectors.toList()), payload);
+    }
+
+    /**
+     * Sends the raw payload to each of the given connections across this
+     * channel, writing the payload only once.
+     *
+     * <p>The payload consumer is called a single time, and the data it
+     * writes is sent as is to every connection. It must therefore not
+     * depend on the connection it is sent to.</p>
+     *
+     * @param connections The connections to send the payload to
+     * @param payload A consumer to write the data to
+     */
+    default void sendToAll(final Iterable<? extends EngineConnection> connections, final Consumer<ChannelBuf> payload) {
+        final EncodedPayload encoded = new EncodedPayload(Sponge.channelManager().allocator(), payload);
+        final List<CompletableFuture<Void>> sent = new ArrayList<>();
+        try {
+            connections.forEach(connection -> sent.add(this.sendTo(connection, encoded)));
+        } finally {
+            // Sending may complete asynchronously, so the payload can only be
+            // released once every connection was written to
+            CompletableFuture.allOf(sent.toArray(new CompletableFuture<?>[0])).whenComplete((result, error) -> encoded.release());
+        }
     }
 
     /**
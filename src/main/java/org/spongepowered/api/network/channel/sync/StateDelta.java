@@ -0,0 +1,187 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network.channel.sync;
+
+import org.spongepowered.api.network.channel.ChannelIOException;
+
+import java.util.Arrays;
+
+/**
+ * Encodes a state as the difference to a previous state, the wire format
+ * used by {@link StateSyncChannel}s.
+ *
+ * <p>A delta consists of the length of the new state as a varint, followed
+ * by runs of unchanged and changed bytes. Each run pair is written as the
+ * number of unchanged bytes and the number of changed bytes, both as
+ * varints, followed by the changed bytes XORed with the bytes of the base
+ * state; bytes past the end of the base state are XORed with zero. Bytes
+ * after the last changed run are unchanged. A delta against an empty base
+ * is a keyframe, holding the whole state.</p>
+ *
+ * <p>The format does not identify the base state, the channel carrying
+ * deltas is responsible for that.</p>
+ */
+public final class StateDelta {
+
+    /**
+     * Unchanged runs shorter than this are folded into the surrounding
+     * changed runs, as encoding them would cost more than it saves.
+     */
+    private static final int MIN_UNCHANGED_RUN = 3;
+
+    /**
+     * Encodes the given state as a delta to the base state.
+     *
+     * @param base The base state, as last acknowledged by the other side
+     * @param state The new state
+     * @return The delta
+     */
+    public static byte[] encode(final byte[] base, final byte[] state) {
+        final Output out = new Output(Math.min(state.length, 64) + 8);
+        StateDelta.writeVarInt(out, state.length);
+        int position = 0;
+        while (position < state.length) {
+            final int changed = StateDelta.nextChanged(base, state, position);
+            if (changed == state.length) {
+                break;
+            }
+            // Extend the changed run until an unchanged run long enough to be worth encoding
+            int end = changed;
+            while (end < state.length) {
+                final int next = StateDelta.nextChanged(base, state, end);
+                if (next == end) {
+                    end++;
+                } else if (next - end < StateDelta.MIN_UNCHANGED_RUN && next < state.length) {
+                    end = next;
+                } else {
+                    break;
+                }
+            }
+            StateDelta.writeVarInt(out, changed - position);
+            StateDelta.writeVarInt(out, end - changed);
+            for (int i = changed; i < end; i++) {
+                out.write(state[i] ^ (i < base.length ? base[i] : 0));
+            }
+            position = end;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Applies a delta to the base state it was encoded against.
+     *
+     * @param base The base state
+     * @param delta The delta
+     * @return The new state
+     * @throws ChannelIOException If the delta is malformed
+     */
+    public static byte[] apply(final byte[] base, final byte[] delta) {
+        final int[] cursor = {0};
+        final int length = StateDelta.readVarInt(delta, cursor);
+        // Every byte past the end of the base is sent as a changed byte, so
+        // reject lengths the remaining delta can't cover before allocating
+        if (length < 0 || length - base.length > delta.length - cursor[0]) {
+            throw new ChannelIOException("Invalid state length " + length);
+        }
+        final byte[] state = Arrays.copyOf(base, length);
+        int position = 0;
+        while (cursor[0] < delta.length) {
+            final int unchanged = StateDelta.readVarInt(delta, cursor);
+            final int changed = StateDelta.readVarInt(delta, cursor);
+            if (unchanged < 0 || changed < 0 || length - position - unchanged < changed || delta.length - cursor[0] < changed) {
+                throw new ChannelIOException("Invalid run at " + position);
+            }
+            position += unchanged;
+            for (int i = 0; i < changed; i++) {
+                state[position++] ^= delta[cursor[0]++];
+            }
+        }
+        return state;
+    }
+
+    private static int nextChanged(final byte[] base, final byte[] state, final int from) {
+        // Bytes past the end of the base always count as changed
+        final int end = Math.min(base.length, state.length);
+        if (from >= end) {
+            return from;
+        }
+        final int mismatch = Arrays.mismatch(base, from, end, state, from, end);
+        return mismatch < 0 ? end : from + mismatch;
+    }
+
+    private static void writeVarInt(final Output out, final int value) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.write(remaining & 0x7F | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    private static int readVarInt(final byte[] data, final int[] cursor) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (cursor[0] >= data.length) {
+                throw new ChannelIOException("Truncated varint");
+            }
+            final byte b = data[cursor[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new ChannelIOException("Varint too long");
+    }
+
+    private StateDelta() {
+    }
+
+    /**
+     * A growable byte array, without the locking of a
+     * {@link java.io.ByteArrayOutputStream}.
+     */
+    private static final class Output {
+
+        private byte[] bytes;
+        private int size;
+
+        Output(final int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        void write(final int b) {
+            if (this.size == this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, this.bytes.length * 2);
+            }
+            this.bytes[this.size++] = (byte) b;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(this.bytes, this.size);
+        }
+
+    }
+
+}
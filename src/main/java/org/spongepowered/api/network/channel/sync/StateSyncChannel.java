@@ -0,0 +1,180 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network.channel.sync;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.network.EngineConnection;
+import org.spongepowered.api.network.EngineConnectionState;
+import org.spongepowered.api.network.channel.Channel;
+import org.spongepowered.api.network.channel.ChannelBuf;
+import org.spongepowered.api.network.channel.packet.PacketChannel;
+import org.spongepowered.api.network.channel.raw.RawDataChannel;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Represents a channel synchronizing a state, such as the contents of a
+ * custom HUD, that is sent often but changes little between sends.
+ *
+ * <p>Unlike a {@link PacketChannel} or {@link RawDataChannel}, each send
+ * replaces the previous state instead of being a message of its own. The
+ * channel keeps, per connection, the last state the other side acknowledged
+ * and only sends the {@link StateDelta delta} to it. Every
+ * {@link #keyframeInterval()} sends, and whenever no acknowledged state is
+ * available, the whole state is sent as a keyframe instead. Handlers on the
+ * other side always receive the complete, reconstructed state.</p>
+ *
+ * <p>A delta does not identify the state it was encoded against, so the
+ * framing of this channel carries the id of the base state along with each
+ * delta, and the id of each state the other side acknowledges. The receiver
+ * applies a delta to the state with that id, so it keeps the states it
+ * acknowledged until a delta against a newer one arrives.</p>
+ *
+ * <p>States that are not yet acknowledged are never used as a base, so a
+ * lost or reordered delta only delays the state until the next send. The
+ * state should be written the same way each time, for example through a
+ * generated {@link org.spongepowered.api.network.channel.packet.PacketCodec},
+ * so that unchanged values produce unchanged bytes.</p>
+ */
+public interface StateSyncChannel extends Channel {
+
+    /**
+     * The default number of sends between two keyframes.
+     */
+    int DEFAULT_KEYFRAME_INTERVAL = 100;
+
+    /**
+     * Gets whether this channel is supported by the given
+     * {@link EngineConnection}.
+     *
+     * <p>A channel is supported if the other side of the connection
+     * also supports the channel.</p>
+     *
+     * @param connection The connection to check
+     * @return Whether the channel is supported
+     */
+    boolean isSupportedBy(EngineConnection connection);
+
+    /**
+     * Adds a handler to this channel that is invoked every time a state is
+     * received on <strong>either</strong> side.
+     *
+     * @param handler The handler
+     */
+    void addHandler(StateSyncHandler<EngineConnectionState> handler);
+
+    /**
+     * Adds a handler to this channel that is invoked every time a state is
+     * received on the given connection side.
+     *
+     * @param connectionState The connection state the state will be handled for
+     * @param handler The handler
+     * @param <S> The connection state
+     */
+    <S extends EngineConnectionState> void addHandler(Class<S> connectionState, StateSyncHandler<? super S> handler);
+
+    /**
+     * Removes the handler from handling states.
+     *
+     * @param connectionState The connection state to remove the handler from
+     * @param handler The handler
+     * @param <S> The connection state
+     */
+    <S extends EngineConnectionState> void removeHandler(Class<S> connectionState, StateSyncHandler<? super S> handler);
+
+    /**
+     * Removes the handler from handling states.
+     *
+     * @param handler The handler
+     */
+    void removeHandler(StateSyncHandler<?> handler);
+
+    /**
+     * Gets the number of sends to a connection between two keyframes.
+     *
+     * <p>Unless {@link #setKeyframeInterval(int) set}, this is
+     * {@link #DEFAULT_KEYFRAME_INTERVAL}.</p>
+     *
+     * @return The keyframe interval
+     */
+    int keyframeInterval();
+
+    /**
+     * Sets the number of sends to a connection between two keyframes.
+     *
+     * @param interval The keyframe interval
+     * @throws IllegalArgumentException If the interval is below 1
+     */
+    void setKeyframeInterval(int interval);
+
+    /**
+     * Forgets the acknowledged state of the given connection, so that the
+     * next state sent to it is a keyframe.
+     *
+     * @param connection The connection
+     */
+    void resync(EngineConnection connection);
+
+    /**
+     * Sends the state to the player across this channel. The state may not
+     * be sent if the player doesn't have a registered handler.
+     *
+     * @param player The player to send the state to
+     * @param state A consumer to write the state to
+     * @return A future which will complete when the operation has finished
+     */
+    default CompletableFuture<Void> sendTo(final ServerPlayer player, final Consumer<ChannelBuf> state) {
+        return this.sendTo(player.connection(), state);
+    }
+
+    /**
+     * Sends the state to the server. The state may not be sent if there is
+     * no registered handler. This <strong>must</strong> be called from the
+     * client side.
+     *
+     * @param state A consumer to write the state to
+     * @return A future which will complete when the operation has finished
+     */
+    default CompletableFuture<Void> sendToServer(final Consumer<ChannelBuf> state) {
+        final EngineConnection connection = Sponge.client().connection()
+                .orElseThrow(() -> new IllegalStateException("The client is currently not connected to a server."));
+        return this.sendTo(connection, state);
+    }
+
+    /**
+     * Sends the state to the other side of the {@link EngineConnection}
+     * across this channel, as a delta to the last state it acknowledged.
+     *
+     * <p>The returned future completes once the state was sent, not once it
+     * was acknowledged.</p>
+     *
+     * @param connection The connection to send the state to
+     * @param state A consumer to write the state to
+     * @return A future which will complete when the operation has finished
+     */
+    CompletableFuture<Void> sendTo(EngineConnection connection, Consumer<ChannelBuf> state);
+}
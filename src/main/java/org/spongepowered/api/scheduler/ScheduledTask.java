@@ -57,4 +57,11 @@ public interface ScheduledTask extends Nameable, Identifiable {
      * @return True if cancelled, false otherwise
      */
     boolean isCancelled();
+
+    /**
+     * Gets the run-time statistics of this scheduled task.
+     *
+     * @return The statistics
+     */
+    TaskStatistics statistics();
 }
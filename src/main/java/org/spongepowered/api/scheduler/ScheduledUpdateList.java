@@ -27,12 +27,17 @@
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.fluid.FluidType;
 import org.spongepowered.api.registry.DefaultedRegistryReference;
+import org.spongepowered.api.util.AABB;
+import org.spongepowered.api.util.BlockPositions;
 import org.spongepowered.api.util.Ticks;
+import org.spongepowered.math.GenericMath;
+import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
 import java.time.Duration;
 import java.time.temporal.TemporalUnit;
 import java.util.Collection;
+import java.util.Objects;
 
 /**
  * A tick based priority scheduled list targeting specific types of
@@ -310,4 +315,121 @@ default Collection<? extends ScheduledUpdate<T>> scheduledAt(final Vector3i pos)
      * @return The collection of scheduled updates at the desired position
      */
     Collection<? extends ScheduledUpdate<T>> scheduledAt(int x, int y, int z);
+
+    /**
+     * Schedules a new update at the {@link BlockPositions packed} position
+     * after the specified number of {@link Ticks}.
+     *
+     * @param packedPosition The packed position
+     * @param target The target
+     * @param delay The delay, in {@link Ticks}
+     * @param priority The priority of the scheduled update
+     * @return The scheduled update
+     * @throws IllegalArgumentException if the delay is infinite
+     */
+    default ScheduledUpdate<T> schedule(final long packedPosition, final T target, final Ticks delay, final TaskPriority priority) {
+        return this.schedule(BlockPositions.x(packedPosition), BlockPositions.y(packedPosition), BlockPositions.z(packedPosition),
+            target, delay, priority);
+    }
+
+    /**
+     * Schedules updates of the same target at each of the
+     * {@link BlockPositions packed} positions of the given range of the
+     * buffer.
+     *
+     * <p>Unlike the single position methods, the scheduled updates are not
+     * returned, which lets implementations schedule them in bulk.</p>
+     *
+     * @param packedPositions The buffer of packed positions
+     * @param offset The index of the first position to schedule
+     * @param length The number of positions to schedule
+     * @param target The target
+     * @param delay The delay, in {@link Ticks}
+     * @param priority The priority of the scheduled updates
+     * @throws IllegalArgumentException if the delay is infinite
+     * @throws IndexOutOfBoundsException if the range is outside of the buffer
+     */
+    default void scheduleAll(final long[] packedPositions, final int offset, final int length, final T target, final Ticks delay,
+        final TaskPriority priority) {
+        Objects.checkFromIndexSize(offset, length, packedPositions.length);
+        for (int i = offset; i < offset + length; i++) {
+            this.schedule(packedPositions[i], target, delay, priority);
+        }
+    }
+
+    /**
+     * Gets whether there's a scheduled update at the
+     * {@link BlockPositions packed} position with the provided target.
+     *
+     * @param packedPosition The packed position
+     * @param target The target
+     * @return True if there's an update scheduled
+     */
+    default boolean isScheduled(final long packedPosition, final T target) {
+        return this.isScheduled(BlockPositions.x(packedPosition), BlockPositions.y(packedPosition), BlockPositions.z(packedPosition), target);
+    }
+
+    /**
+     * Gets a collection of scheduled updates at the
+     * {@link BlockPositions packed} position.
+     *
+     * @param packedPosition The packed position
+     * @return The collection of scheduled updates at the desired position
+     */
+    default Collection<? extends ScheduledUpdate<T>> scheduledAt(final long packedPosition) {
+        return this.scheduledAt(BlockPositions.x(packedPosition), BlockPositions.y(packedPosition), BlockPositions.z(packedPosition));
+    }
+
+    /**
+     * Calls the consumer with every scheduled update of a block intersecting the
+     * given box, along with the {@link BlockPositions packed} position of
+     * that block.
+     *
+     * <p>Implementations are expected to visit the updates in place, without
+     * collecting them or allocating positions; the consumer must not
+     * schedule or cancel updates of this list.</p>
+     *
+     * @param box The box to visit the scheduled updates within
+     * @param consumer The consumer of scheduled updates
+     */
+    default void forEachScheduledIn(final AABB box, final UpdateConsumer<T> consumer) {
+        final Vector3d min = box.min();
+        final Vector3d max = box.max();
+        final int maxX = (int) Math.ceil(max.x()) - 1;
+        final int maxY = (int) Math.ceil(max.y()) - 1;
+        final int maxZ = (int) Math.ceil(max.z()) - 1;
+        for (int x = GenericMath.floor(min.x()); x <= maxX; x++) {
+            for (int z = GenericMath.floor(min.z()); z <= maxZ; z++) {
+                for (int y = GenericMath.floor(min.y()); y <= maxY; y++) {
+                    final Collection<? extends ScheduledUpdate<T>> updates = this.scheduledAt(x, y, z);
+                    if (updates.isEmpty()) {
+                        continue;
+                    }
+                    final long packed = BlockPositions.pack(x, y, z);
+                    for (final ScheduledUpdate<T> update : updates) {
+                        consumer.accept(packed, update);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A consumer of scheduled updates and their
+     * {@link BlockPositions packed} positions.
+     *
+     * @param <T> The type of update objects that are being scheduled
+     */
+    @FunctionalInterface
+    interface UpdateConsumer<T> {
+
+        /**
+         * Accepts a scheduled update.
+         *
+         * @param packedPosition The packed position of the update
+         * @param update The scheduled update
+         */
+        void accept(long packedPosition, ScheduledUpdate<T> update);
+
+    }
 }
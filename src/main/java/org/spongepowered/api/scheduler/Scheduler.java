@@ -26,6 +26,7 @@
 
 import org.spongepowered.plugin.PluginContainer;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -33,9 +34,23 @@
 
 /**
  * Represents a scheduler for running {@link Task tasks}.
+ *
+ * <p>Synchronous schedulers run tasks at tick boundaries. Tasks are kept in a
+ * hierarchical timer wheel keyed by the tick they are due in, so submitting,
+ * cancelling and finding due tasks does not depend on the number of tasks
+ * scheduled. Tasks due in the same tick run in order of their
+ * {@link Task#priority() priority}, and each plugin may be given a
+ * {@link #tickBudget(PluginContainer) tick budget} limiting the time its
+ * tasks may take per tick.</p>
  */
 public interface Scheduler {
 
+    /**
+     * The default number of tasks a plugin may run at once on the
+     * {@link #virtualExecutor(PluginContainer) virtual executor}.
+     */
+    int DEFAULT_VIRTUAL_CONCURRENCY = 256;
+
     /**
      * Retrieves a scheduled or running task by its unique ID.
      *
@@ -77,6 +92,47 @@ public interface Scheduler {
      */
     TaskExecutorService executor(PluginContainer plugin);
 
+    /**
+     * Gets an {@link ExecutorService executor} that runs each of its tasks on
+     * its own virtual thread, suited to tasks spending most of their time in
+     * blocking calls such as database queries or HTTP requests.
+     *
+     * <p>Unlike the {@link #executor(PluginContainer) platform executor},
+     * blocked tasks do not hold on to a platform thread. At most
+     * {@link #virtualConcurrency(PluginContainer)} tasks of the plugin run at
+     * once; further tasks wait for a running one to complete. The returned
+     * {@link TaskFuture futures} behave as those of the platform executor,
+     * and cancelling one interrupts its virtual thread if running.</p>
+     *
+     * @param plugin The plugin that will own the created tasks
+     * @return An executor running tasks on virtual threads
+     * @throws UnsupportedOperationException If this scheduler is synchronous
+     */
+    TaskExecutorService virtualExecutor(PluginContainer plugin);
+
+    /**
+     * Gets how many tasks of the given plugin may run at once on the
+     * {@link #virtualExecutor(PluginContainer) virtual executor}.
+     *
+     * <p>Unless {@link #setVirtualConcurrency(PluginContainer, int) set},
+     * this is {@link #DEFAULT_VIRTUAL_CONCURRENCY}.</p>
+     *
+     * @param plugin The plugin
+     * @return The concurrency limit
+     */
+    int virtualConcurrency(PluginContainer plugin);
+
+    /**
+     * Sets how many tasks of the given plugin may run at once on the
+     * {@link #virtualExecutor(PluginContainer) virtual executor}. Tasks
+     * already running are not affected by a lower limit.
+     *
+     * @param plugin The plugin
+     * @param concurrency The concurrency limit
+     * @throws IllegalArgumentException If the limit is below 1
+     */
+    void setVirtualConcurrency(PluginContainer plugin, int concurrency);
+
     /**
      * Submit a {@link Task} to this scheduler and returns the task
      * as a {@link ScheduledTask}.
@@ -105,4 +161,41 @@ public interface Scheduler {
      * @return The scheduled task
      */
     ScheduledTask submit(Task task, String name);
+
+    /**
+     * Gets the time the tasks of the given plugin may take per tick, if
+     * limited.
+     *
+     * <p>Once the tasks of a plugin have taken that much time in a tick,
+     * its remaining due tasks are deferred to the next tick rather than run
+     * late; deferred tasks keep their place ahead of tasks that become due
+     * later. A task that started within the budget is never interrupted, so
+     * a single run may exceed it, which the task's
+     * {@link ScheduledTask#statistics() statistics} reveal.</p>
+     *
+     * <p>Budgets only apply to synchronous schedulers; asynchronous
+     * schedulers never defer tasks.</p>
+     *
+     * @param plugin The plugin
+     * @return The tick budget, or {@link Optional#empty()} if unlimited
+     */
+    Optional<Duration> tickBudget(PluginContainer plugin);
+
+    /**
+     * Limits the time the tasks of the given plugin may take per tick.
+     *
+     * @param plugin The plugin
+     * @param budget The tick budget
+     * @throws IllegalArgumentException If the budget is not positive
+     * @see #tickBudget(PluginContainer)
+     */
+    void setTickBudget(PluginContainer plugin, Duration budget);
+
+    /**
+     * Removes the {@link #tickBudget(PluginContainer) tick budget} of the
+     * given plugin, letting all of its due tasks run each tick.
+     *
+     * @param plugin The plugin
+     */
+    void removeTickBudget(PluginContainer plugin);
 }
@@ -25,6 +25,7 @@
 package org.spongepowered.api.scheduler;
 
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.registry.DefaultedRegistryReference;
 import org.spongepowered.api.util.CopyableBuilder;
 import org.spongepowered.api.util.Ticks;
 import org.spongepowered.plugin.PluginContainer;
@@ -70,6 +71,16 @@ static Builder builder() {
      */
     Duration interval();
 
+    /**
+     * Gets the priority of the task. Synchronous tasks due in the same tick
+     * run in order of priority, and lower priority tasks are the first to
+     * be deferred when their plugin runs out of
+     * {@link Scheduler#tickBudget(PluginContainer) tick budget}.
+     *
+     * @return The priority
+     */
+    TaskPriority priority();
+
     /**
      * Represents a builder to create a {@link Task}.
      */
@@ -207,6 +218,28 @@ default Builder interval(final long interval, final TimeUnit unit) {
          */
         Builder interval(final Ticks ticks);
 
+        /**
+         * Sets the priority of the task. By default, the priority is
+         * {@link TaskPriorities#NORMAL}.
+         *
+         * @param priority The priority
+         * @return This builder, for chaining
+         * @see Task#priority()
+         */
+        Builder priority(TaskPriority priority);
+
+        /**
+         * Sets the priority of the task. By default, the priority is
+         * {@link TaskPriorities#NORMAL}.
+         *
+         * @param priority The priority
+         * @return This builder, for chaining
+         * @see Task#priority()
+         */
+        default Builder priority(final DefaultedRegistryReference<? extends TaskPriority> priority) {
+            return this.priority(priority.get());
+        }
+
         /**
          * Sets the plugin of the task.
          *
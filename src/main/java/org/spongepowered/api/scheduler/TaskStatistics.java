@@ -0,0 +1,84 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.scheduler;
+
+import java.time.Duration;
+
+/**
+ * Run-time statistics of a {@link ScheduledTask}, as of the moment they were
+ * retrieved through {@link ScheduledTask#statistics()}.
+ */
+public interface TaskStatistics {
+
+    /**
+     * Gets how many times the task has run.
+     *
+     * @return The number of runs
+     */
+    long runs();
+
+    /**
+     * Gets how many times a run of the task was deferred to a later tick
+     * because the {@link Scheduler#tickBudget(org.spongepowered.plugin.PluginContainer) tick budget}
+     * of its plugin was exhausted.
+     *
+     * <p>Always zero for asynchronous tasks.</p>
+     *
+     * @return The number of deferred runs
+     */
+    long deferrals();
+
+    /**
+     * Gets the time spent running the task, over all of its runs.
+     *
+     * @return The total run time
+     */
+    Duration totalTime();
+
+    /**
+     * Gets the time the most recent run of the task took.
+     *
+     * @return The last run time, or {@link Duration#ZERO} if the task has not run yet
+     */
+    Duration lastTime();
+
+    /**
+     * Gets the time the longest run of the task took.
+     *
+     * @return The longest run time, or {@link Duration#ZERO} if the task has not run yet
+     */
+    Duration maxTime();
+
+    /**
+     * Gets the average time a run of the task took.
+     *
+     * @return The average run time, or {@link Duration#ZERO} if the task has not run yet
+     */
+    default Duration averageTime() {
+        final long runs = this.runs();
+        return runs == 0 ? Duration.ZERO : this.totalTime().dividedBy(runs);
+    }
+
+}
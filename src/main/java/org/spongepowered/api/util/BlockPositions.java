@@ -0,0 +1,126 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * Encodes block positions into single {@code long}s, allowing positions to
+ * be stored and passed around without allocating a {@link Vector3i}.
+ *
+ * <p>The encoding matches the one used by the game: 26 bits for each of
+ * {@code x} and {@code z} and 12 bits for {@code y}, so each coordinate
+ * wraps around outside of those ranges.</p>
+ */
+public final class BlockPositions {
+
+    private static final int XZ_BITS = 26;
+    private static final int Y_BITS = 12;
+    private static final long XZ_MASK = (1L << BlockPositions.XZ_BITS) - 1;
+    private static final long Y_MASK = (1L << BlockPositions.Y_BITS) - 1;
+    private static final int X_SHIFT = BlockPositions.XZ_BITS + BlockPositions.Y_BITS;
+    private static final int Z_SHIFT = BlockPositions.Y_BITS;
+
+    /**
+     * Packs the given block coordinates.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @return The packed position
+     */
+    public static long pack(final int x, final int y, final int z) {
+        return (x & BlockPositions.XZ_MASK) << BlockPositions.X_SHIFT
+            | (z & BlockPositions.XZ_MASK) << BlockPositions.Z_SHIFT
+            | y & BlockPositions.Y_MASK;
+    }
+
+    /**
+     * Packs the given block position.
+     *
+     * @param position The position
+     * @return The packed position
+     */
+    public static long pack(final Vector3i position) {
+        return BlockPositions.pack(position.x(), position.y(), position.z());
+    }
+
+    /**
+     * Gets the x coordinate of a packed position.
+     *
+     * @param packed The packed position
+     * @return The x coordinate
+     */
+    public static int x(final long packed) {
+        return (int) (packed >> BlockPositions.X_SHIFT);
+    }
+
+    /**
+     * Gets the y coordinate of a packed position.
+     *
+     * @param packed The packed position
+     * @return The y coordinate
+     */
+    public static int y(final long packed) {
+        return (int) (packed << 64 - BlockPositions.Y_BITS >> 64 - BlockPositions.Y_BITS);
+    }
+
+    /**
+     * Gets the z coordinate of a packed position.
+     *
+     * @param packed The packed position
+     * @return The z coordinate
+     */
+    public static int z(final long packed) {
+        return (int) (packed << 64 - BlockPositions.X_SHIFT >> 64 - BlockPositions.XZ_BITS);
+    }
+
+    /**
+     * Unpacks a packed position.
+     *
+     * @param packed The packed position
+     * @return The position
+     */
+    public static Vector3i unpack(final long packed) {
+        return new Vector3i(BlockPositions.x(packed), BlockPositions.y(packed), BlockPositions.z(packed));
+    }
+
+    /**
+     * Offsets a packed position without unpacking it into a {@link Vector3i}.
+     *
+     * @param packed The packed position
+     * @param x The x offset
+     * @param y The y offset
+     * @param z The z offset
+     * @return The offset packed position
+     */
+    public static long offset(final long packed, final int x, final int y, final int z) {
+        return BlockPositions.pack(BlockPositions.x(packed) + x, BlockPositions.y(packed) + y, BlockPositions.z(packed) + z);
+    }
+
+    private BlockPositions() {
+    }
+
+}
@@ -25,7 +25,7 @@
 package org.spongepowered.api.util.weighted;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collection;
 import java.util.List;
 import java.util.random.RandomGenerator;
 
@@ -57,23 +57,37 @@ public ChanceTable(int rolls) {
     @Override
     public List<T> get(RandomGenerator rand) {
         final List<T> results = new ArrayList<>();
+        this.get(rand, results);
+        return results;
+    }
+
+    @Override
+    public void get(RandomGenerator rand, Collection<? super T> results) {
         if (this.entries.isEmpty()) {
-            return results;
+            return;
         }
         final int rolls = this.rolls().flooredAmount(rand);
         for (int i = 0; i < rolls; i++) {
-            for (Iterator<TableEntry<T>> it = this.entries.iterator(); it.hasNext();) {
-                final TableEntry<T> next = it.next();
-                if (rand.nextDouble() < next.weight()) {
-                    if (next instanceof NestedTableEntry) {
-                        results.addAll(((NestedTableEntry<T>) next).get(rand));
-                    } else if (next instanceof WeightedObject) {
-                        results.add(((WeightedObject<T>) next).get());
-                    }
+            this.roll(rand, results);
+        }
+    }
+
+    @Override
+    public void sampleMany(RandomGenerator rand, int samples, Collection<? super T> results) {
+        this.sampleRolls(rand, samples, results, this.entries.isEmpty(), this::roll);
+    }
+
+    private void roll(RandomGenerator rand, Collection<? super T> results) {
+        for (int i = 0; i < this.entries.size(); i++) {
+            final TableEntry<T> next = this.entries.get(i);
+            if (rand.nextDouble() < next.weight()) {
+                if (next instanceof NestedTableEntry) {
+                    ((NestedTableEntry<T>) next).get(rand, results);
+                } else if (next instanceof WeightedObject) {
+                    results.add(((WeightedObject<T>) next).get());
                 }
             }
         }
-        return results;
     }
 
     @Override
@@ -0,0 +1,244 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.weighted;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
+
+/**
+ * An immutable, read-optimized snapshot of a {@link WeightedTable}, created
+ * through {@link WeightedTable#compile()}.
+ *
+ * <p>The entries are compiled into an alias table (Vose's alias method), so
+ * each roll takes constant time regardless of the number of entries, where
+ * a {@link WeightedTable} walks its entries on every roll. Tables nested in
+ * a {@link NestedTableEntry} are compiled as well if they are weighted
+ * tables.</p>
+ *
+ * <p>Changes made to the source table after compiling are not reflected,
+ * the table has to be compiled again.</p>
+ *
+ * @param <T> The entry type
+ */
+public final class CompiledWeightedTable<T> extends RandomObjectTable<T> {
+
+    // All indexed by outcome, an outcome either has a value, a nested table
+    // or neither (for entries such as EmptyObject)
+    private final @Nullable Object[] values;
+    private final @Nullable RandomObjectTable<T>[] tables;
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    CompiledWeightedTable(final WeightedTable<T> table) {
+        super(table.rolls());
+        final List<TableEntry<T>> outcomes = new ArrayList<>();
+        double totalWeight = 0;
+        for (final TableEntry<T> entry : table) {
+            if (entry instanceof NestedTableEntry && ((NestedTableEntry<T>) entry).getNestedTable() instanceof WeightedTable) {
+                final NestedTableEntry<T> nested = (NestedTableEntry<T>) entry;
+                this.entries.add(new NestedTableEntry<>(nested.weight(), ((WeightedTable<T>) nested.getNestedTable()).compile()));
+            } else {
+                this.entries.add(entry);
+            }
+            // Entries without weight can never be rolled
+            if (entry.weight() > 0) {
+                outcomes.add(this.entries.get(this.entries.size() - 1));
+                totalWeight += entry.weight();
+            }
+        }
+        // A weighted table whose weights are all zero always rolls its
+        // first entry, so the compiled table does the same
+        if (outcomes.isEmpty() && !this.entries.isEmpty()) {
+            outcomes.add(this.entries.get(0));
+        }
+
+        final int size = outcomes.size();
+        this.values = new Object[size];
+        this.tables = new RandomObjectTable[size];
+        this.probabilities = new double[size];
+        this.aliases = new int[size];
+
+        final double[] scaled = new double[size];
+        final int[] small = new int[size];
+        final int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            final TableEntry<T> entry = outcomes.get(i);
+            if (entry instanceof NestedTableEntry) {
+                this.tables[i] = ((NestedTableEntry<T>) entry).getNestedTable();
+            } else if (entry instanceof WeightedObject) {
+                this.values[i] = ((WeightedObject<T>) entry).get();
+            }
+            scaled[i] = totalWeight > 0 ? entry.weight() * size / totalWeight : 1;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            final int less = small[--smallCount];
+            final int more = large[--largeCount];
+            this.probabilities[less] = scaled[less];
+            this.aliases[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left over is only off by rounding errors
+        while (largeCount > 0) {
+            this.probabilities[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            this.probabilities[small[--smallCount]] = 1;
+        }
+    }
+
+    @Override
+    public List<T> get(final RandomGenerator rand) {
+        final List<T> results = new ArrayList<>();
+        this.get(rand, results);
+        return results;
+    }
+
+    @Override
+    public void get(final RandomGenerator rand, final Collection<? super T> results) {
+        if (this.probabilities.length == 0) {
+            return;
+        }
+        final int rolls = this.rolls().flooredAmount(rand);
+        for (int i = 0; i < rolls; i++) {
+            this.roll(rand, results);
+        }
+    }
+
+    @Override
+    public void sampleMany(final RandomGenerator rand, final int samples, final Collection<? super T> results) {
+        this.sampleRolls(rand, samples, results, this.probabilities.length == 0, this::roll);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void roll(final RandomGenerator rand, final Collection<? super T> results) {
+        // A single double picks both the column and the coin flip within it
+        final double roll = rand.nextDouble() * this.probabilities.length;
+        int index = Math.min((int) roll, this.probabilities.length - 1);
+        if (roll - index >= this.probabilities[index]) {
+            index = this.aliases[index];
+        }
+        final @Nullable RandomObjectTable<T> table = this.tables[index];
+        if (table != null) {
+            table.get(rand, results);
+        } else if (this.values[index] != null) {
+            results.add((T) this.values[index]);
+        }
+    }
+
+    // FORBIDDEN METHODS
+
+    @Override
+    public void setRolls(final VariableAmount rolls) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setRolls(final int rolls) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean add(final TableEntry<T> entry) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean add(final T object, final double weight) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends @Nullable TableEntry<T>> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(final Object entry) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeObject(final Object entry) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<? super TableEntry<T>> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<TableEntry<T>> iterator() {
+        return Collections.unmodifiableList(this.entries).iterator();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder r = new StringBuilder();
+        r.append("CompiledWeightedTable (rolls=").append(this.rolls());
+        r.append(",entries=").append(this.entries.size()).append(") {\n");
+        for (final TableEntry<T> entry : this.entries) {
+            r.append("\t").append(entry.toString()).append("\n");
+        }
+        r.append("}");
+        return r.toString();
+    }
+
+}
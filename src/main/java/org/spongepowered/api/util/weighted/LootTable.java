@@ -25,6 +25,7 @@
 package org.spongepowered.api.util.weighted;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.StringJoiner;
@@ -99,12 +100,62 @@ public void clearPool() {
      */
     public List<T> get(final RandomGenerator rand) {
         final List<T> results = new ArrayList<>();
-        for (final RandomObjectTable<T> pool : this.pool) {
-            results.addAll(pool.get(rand));
-        }
+        this.get(rand, results);
         return results;
     }
 
+    /**
+     * Rolls each table in the pool, adding the results to the given
+     * collection.
+     *
+     * @param rand The random object to use
+     * @param results The collection to add the results to
+     */
+    public void get(final RandomGenerator rand, final Collection<? super T> results) {
+        for (int i = 0; i < this.pool.size(); i++) {
+            this.pool.get(i).get(rand, results);
+        }
+    }
+
+    /**
+     * Rolls each table in the pool, storing the results in the given array
+     * starting at the given offset.
+     *
+     * @see RandomObjectTable#get(RandomGenerator, Object[], int)
+     * @param rand The random object to use
+     * @param results The array to store the results in
+     * @param offset The index to store the first result at
+     * @return The number of results stored
+     * @throws IndexOutOfBoundsException If the offset is outside of the
+     *     array, or the array has no room for all results
+     */
+    public int get(final RandomGenerator rand, final T[] results, final int offset) {
+        Objects.checkIndex(offset, results.length + 1);
+        int index = offset;
+        for (int i = 0; i < this.pool.size(); i++) {
+            index += this.pool.get(i).get(rand, results, index);
+        }
+        return index - offset;
+    }
+
+    /**
+     * Samples this loot table the given number of times, adding the results
+     * of every sample to the given collection.
+     *
+     * @see RandomObjectTable#sampleMany(RandomGenerator, int, Collection)
+     * @param rand The random object to use
+     * @param samples The number of samples to take
+     * @param results The collection to add the results to
+     */
+    public void sampleMany(final RandomGenerator rand, final int samples, final Collection<? super T> results) {
+        if (samples < 0) {
+            throw new IllegalArgumentException("Samples cannot be negative!");
+        }
+        for (int i = 0; i < this.pool.size(); i++) {
+            this.pool.get(i).sampleMany(rand, samples, results);
+        }
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
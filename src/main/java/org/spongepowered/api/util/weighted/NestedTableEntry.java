@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.util.weighted;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.StringJoiner;
@@ -61,6 +62,17 @@ public List<T> get(final RandomGenerator rand) {
         return this.table.get(rand);
     }
 
+    /**
+     * Retrieves entries from the nested table, adding them to the given
+     * collection.
+     *
+     * @param rand The random object to use
+     * @param results The collection to add the retrieved entries to
+     */
+    public void get(final RandomGenerator rand, final Collection<? super T> results) {
+        this.table.get(rand, results);
+    }
+
     /**
      * Returns the nested table
      *
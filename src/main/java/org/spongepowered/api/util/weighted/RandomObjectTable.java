@@ -26,11 +26,14 @@
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.AbstractCollection;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.random.RandomGenerator;
 
 /**
@@ -242,6 +245,111 @@ public int size() {
      */
     public abstract List<T> get(RandomGenerator rand);
 
+    /**
+     * Performs a number of rolls according to the number of rolls defined by
+     * {@link #rolls()} and adds the items from the table for each roll to the
+     * given collection.
+     *
+     * <p>Unlike {@link #get(RandomGenerator)}, the built-in tables do not
+     * allocate a new list for the results, so the same collection can be
+     * cleared and reused between calls.</p>
+     *
+     * @param rand The random object to use
+     * @param results The collection to add the returned items to
+     */
+    public void get(RandomGenerator rand, Collection<? super T> results) {
+        results.addAll(this.get(rand));
+    }
+
+    /**
+     * Performs a number of rolls according to the number of rolls defined by
+     * {@link #rolls()} and stores the items from the table for each roll in
+     * the given array, starting at the given offset.
+     *
+     * <p>Like {@link #get(RandomGenerator, Collection)}, this does not
+     * allocate a list for the results. The array must have room for every
+     * item rolled.</p>
+     *
+     * @param rand The random object to use
+     * @param results The array to store the returned items in
+     * @param offset The index to store the first returned item at
+     * @return The number of items stored
+     * @throws IndexOutOfBoundsException If the offset is outside of the
+     *     array, or the array has no room for all returned items
+     */
+    public int get(RandomGenerator rand, T[] results, int offset) {
+        Objects.checkIndex(offset, results.length + 1);
+        final ArrayResults<T> sink = new ArrayResults<>(results, offset);
+        this.get(rand, sink);
+        return sink.index - offset;
+    }
+
+    /**
+     * Samples this table the given number of times, adding the items of
+     * every sample to the given collection. This is statistically equivalent
+     * to calling {@link #get(RandomGenerator, Collection)} {@code samples}
+     * times, but evaluates {@link #rolls()} up front and avoids the per call
+     * overhead.
+     *
+     * @param rand The random object to use
+     * @param samples The number of samples to take
+     * @param results The collection to add the returned items to
+     */
+    public void sampleMany(RandomGenerator rand, int samples, Collection<? super T> results) {
+        if (samples < 0) {
+            throw new IllegalArgumentException("Samples cannot be negative!");
+        }
+        for (int i = 0; i < samples; i++) {
+            this.get(rand, results);
+        }
+    }
+
+    /**
+     * Gets the total number of rolls for the given number of samples. A
+     * {@link VariableAmount.Fixed fixed} roll count is only evaluated once.
+     *
+     * @param rand The random object to use
+     * @param samples The number of samples
+     * @return The total number of rolls
+     */
+    protected int totalRolls(RandomGenerator rand, int samples) {
+        if (samples < 0) {
+            throw new IllegalArgumentException("Samples cannot be negative!");
+        }
+        final VariableAmount rolls = this.rolls();
+        if (rolls instanceof VariableAmount.Fixed) {
+            return Math.multiplyExact(rolls.flooredAmount(rand), samples);
+        }
+        int total = 0;
+        for (int i = 0; i < samples; i++) {
+            total = Math.addExact(total, rolls.flooredAmount(rand));
+        }
+        return total;
+    }
+
+    /**
+     * Performs the {@link #totalRolls(RandomGenerator, int) total number of
+     * rolls} for the given number of samples, for use by implementations of
+     * {@link #sampleMany(RandomGenerator, int, Collection)}. The rolls are
+     * evaluated even if this table has nothing to roll.
+     *
+     * @param rand The random object to use
+     * @param samples The number of samples
+     * @param results The collection to add the returned items to
+     * @param empty Whether this table has nothing to roll
+     * @param roll A single roll of this table
+     */
+    protected final void sampleRolls(RandomGenerator rand, int samples, Collection<? super T> results, boolean empty,
+        BiConsumer<RandomGenerator, Collection<? super T>> roll) {
+        final int rolls = this.totalRolls(rand, samples);
+        if (empty) {
+            return;
+        }
+        for (int i = 0; i < rolls; i++) {
+            roll.accept(rand, results);
+        }
+    }
+
     /**
      * Gets the entries in the table. Note that the specific sub class of this
      * abstract table will determine the context that the entry weights should
@@ -267,4 +375,40 @@ public Object[] toArray() {
     public <R> R[] toArray(R[] a) {
         return this.entries.toArray(a);
     }
+
+    /**
+     * Stores the items added to it in an array, for
+     * {@link #get(RandomGenerator, Object[], int)}.
+     */
+    private static final class ArrayResults<T> extends AbstractCollection<T> {
+
+        private final T[] results;
+        private final int offset;
+        int index;
+
+        ArrayResults(T[] results, int offset) {
+            this.results = results;
+            this.offset = offset;
+            this.index = offset;
+        }
+
+        @Override
+        public boolean add(T t) {
+            if (this.index == this.results.length) {
+                throw new IndexOutOfBoundsException("The results array has no room for more than " + (this.index - this.offset) + " items");
+            }
+            this.results[this.index++] = t;
+            return true;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return Arrays.asList(this.results).subList(this.offset, this.index).iterator();
+        }
+
+        @Override
+        public int size() {
+            return this.index - this.offset;
+        }
+    }
 }
@@ -181,6 +181,16 @@ public List<T> get(final RandomGenerator rand) {
         return this.table.get(rand);
     }
 
+    @Override
+    public void get(final RandomGenerator rand, final Collection<? super T> results) {
+        this.table.get(rand, results);
+    }
+
+    @Override
+    public void sampleMany(final RandomGenerator rand, final int samples, final Collection<? super T> results) {
+        this.table.sampleMany(rand, samples, results);
+    }
+
     @Override
     public boolean containsObject(final Object obj) {
         return this.table.containsObject(obj);
@@ -159,26 +159,54 @@ protected void recalculateWeight() {
     @Override
     public List<T> get(RandomGenerator rand) {
         final List<T> results = new ArrayList<>();
+        this.get(rand, results);
+        return results;
+    }
+
+    @Override
+    public void get(RandomGenerator rand, Collection<? super T> results) {
         if (this.entries.isEmpty()) {
-            return results;
+            return;
         }
         final int rolls = this.rolls().flooredAmount(rand);
         for (int i = 0; i < rolls; i++) {
-            double roll = rand.nextDouble() * this.totalWeight;
-            for (Iterator<TableEntry<T>> it = this.entries.iterator(); it.hasNext();) {
-                final TableEntry<T> next = it.next();
-                roll -= next.weight();
-                if (roll <= 0) {
-                    if (next instanceof NestedTableEntry) {
-                        results.addAll(((NestedTableEntry<T>) next).get(rand));
-                    } else if (next instanceof WeightedObject) {
-                        results.add(((WeightedObject<T>) next).get());
-                    }
-                    break;
+            this.roll(rand, results);
+        }
+    }
+
+    @Override
+    public void sampleMany(RandomGenerator rand, int samples, Collection<? super T> results) {
+        this.sampleRolls(rand, samples, results, this.entries.isEmpty(), this::roll);
+    }
+
+    private void roll(RandomGenerator rand, Collection<? super T> results) {
+        double roll = rand.nextDouble() * this.totalWeight;
+        for (int i = 0; i < this.entries.size(); i++) {
+            final TableEntry<T> next = this.entries.get(i);
+            roll -= next.weight();
+            if (roll <= 0) {
+                if (next instanceof NestedTableEntry) {
+                    ((NestedTableEntry<T>) next).get(rand, results);
+                } else if (next instanceof WeightedObject) {
+                    results.add(((WeightedObject<T>) next).get());
                 }
+                break;
             }
         }
-        return results;
+    }
+
+    /**
+     * Compiles the current entries of this table into an immutable
+     * {@link CompiledWeightedTable}, which rolls in constant time regardless
+     * of the number of entries. Nested weighted tables are compiled as well.
+     *
+     * <p>Later changes to this table are not reflected in the compiled
+     * table.</p>
+     *
+     * @return The compiled table
+     */
+    public CompiledWeightedTable<T> compile() {
+        return new CompiledWeightedTable<>(this);
     }
 
     @Override
@@ -0,0 +1,161 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.volume.block.BlockSection;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Decodes the biome data of a schematic one 16x16x16 section at a time,
+ * without materializing the whole volume.
+ *
+ * <p>Biome data is laid out like block data, see
+ * {@link BlockDataSectionReader}, and sections are read in the same order,
+ * so the n-th biome section covers the same positions as the n-th block
+ * section of the same schematic.</p>
+ */
+public final class BiomeDataSectionReader {
+
+    private final VarIntSlabReader slabs;
+    private final IntFunction<? extends Biome> palette;
+    private Biome[] resolved = new Biome[16];
+
+    /**
+     * Creates a reader decoding biome data from the given input.
+     *
+     * @param input The input, positioned at the first varint of the data
+     * @param size The size of the schematic
+     * @param palette The function resolving palette ids to biomes
+     */
+    public BiomeDataSectionReader(final InputStream input, final Vector3i size, final IntFunction<? extends Biome> palette) {
+        this.slabs = new VarIntSlabReader(input, "Biome", size);
+        this.palette = Objects.requireNonNull(palette, "palette");
+    }
+
+    /**
+     * Gets whether more sections remain to be read.
+     *
+     * @return True if more sections remain
+     */
+    public boolean hasNext() {
+        return this.slabs.hasNext();
+    }
+
+    /**
+     * Reads the next section.
+     *
+     * @return The next section
+     * @throws IOException If reading from the input failed
+     * @throws NoSuchElementException If no sections remain
+     */
+    public Section next() throws IOException {
+        final Vector3i origin = this.slabs.next();
+        final Vector3i extent = this.slabs.extent();
+        final Biome[] biomes = new Biome[BlockSection.VOLUME];
+        for (int y = 0; y < extent.y(); y++) {
+            for (int z = 0; z < extent.z(); z++) {
+                for (int x = 0; x < extent.x(); x++) {
+                    biomes[BlockSection.index(x, y, z)] = this.resolve(this.slabs.id(x, y, z));
+                }
+            }
+        }
+        return new Section(origin, extent, biomes);
+    }
+
+    private Biome resolve(final int id) {
+        if (id >= this.resolved.length) {
+            this.resolved = Arrays.copyOf(this.resolved, Math.max(id + 1, this.resolved.length * 2));
+        }
+        Biome biome = this.resolved[id];
+        if (biome == null) {
+            biome = Objects.requireNonNull(this.palette.apply(id), () -> "No biome for palette id " + id);
+            this.resolved[id] = biome;
+        }
+        return biome;
+    }
+
+    /**
+     * A section read from biome data.
+     */
+    public static final class Section {
+
+        private final Vector3i origin;
+        private final Vector3i extent;
+        private final Biome[] biomes;
+
+        Section(final Vector3i origin, final Vector3i extent, final Biome[] biomes) {
+            this.origin = origin;
+            this.extent = extent;
+            this.biomes = biomes;
+        }
+
+        /**
+         * Gets the position of the minimum corner of this section, relative
+         * to the minimum corner of the schematic.
+         *
+         * @return The origin of this section
+         */
+        public Vector3i origin() {
+            return this.origin;
+        }
+
+        /**
+         * Gets the size of the part of this section within the bounds of the
+         * schematic, which is smaller than 16 on the positive edges of a
+         * schematic whose size is not a multiple of 16.
+         *
+         * @return The extent of this section
+         */
+        public Vector3i extent() {
+            return this.extent;
+        }
+
+        /**
+         * Gets the biome at the given position local to this section.
+         *
+         * @param x The local x coordinate
+         * @param y The local y coordinate
+         * @param z The local z coordinate
+         * @return The biome
+         * @throws IndexOutOfBoundsException If the position is outside of
+         *     the {@link #extent() extent} of this section
+         */
+        public Biome biome(final int x, final int y, final int z) {
+            if (x >= this.extent.x() || y >= this.extent.y() || z >= this.extent.z()) {
+                throw new IndexOutOfBoundsException("(" + x + ", " + y + ", " + z + ") is outside of " + this.extent);
+            }
+            return this.biomes[BlockSection.index(x, y, z)];
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.volume.biome.BiomeVolume;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * Encodes the biome data of a schematic one 16x16x16 section at a time,
+ * without materializing the whole volume.
+ *
+ * <p>This is the counterpart of {@link BiomeDataSectionReader}, and follows
+ * the same rules as {@link BlockDataSectionWriter}: all sections of a 16
+ * block high slab must be written before any section of the next one, and
+ * the palette must be known before writing starts.</p>
+ */
+public final class BiomeDataSectionWriter {
+
+    private final VarIntSlabWriter slabs;
+    private final ToIntFunction<? super Biome> palette;
+
+    /**
+     * Creates a writer encoding biome data to the given output.
+     *
+     * @param output The output
+     * @param size The size of the schematic
+     * @param palette The function resolving biomes to palette ids
+     */
+    public BiomeDataSectionWriter(final OutputStream output, final Vector3i size, final ToIntFunction<? super Biome> palette) {
+        this.slabs = new VarIntSlabWriter(output, size);
+        this.palette = Objects.requireNonNull(palette, "palette");
+    }
+
+    /**
+     * Writes the section with the given origin, taking its biomes from the
+     * given volume.
+     *
+     * @param origin The minimum corner of the section relative to the
+     *     minimum corner of the schematic, a multiple of 16
+     * @param source The volume to take the biomes from
+     * @param sourceOrigin The position in the source volume corresponding
+     *     to the origin of the section
+     * @throws IOException If writing to the output failed
+     * @throws IllegalStateException If the section does not belong to the
+     *     current slab
+     */
+    public void write(final Vector3i origin, final BiomeVolume source, final Vector3i sourceOrigin) throws IOException {
+        Objects.requireNonNull(source, "source");
+        final Vector3i extent = this.slabs.begin(origin);
+        for (int y = 0; y < extent.y(); y++) {
+            for (int z = 0; z < extent.z(); z++) {
+                for (int x = 0; x < extent.x(); x++) {
+                    final Biome biome = source.biome(sourceOrigin.x() + x, sourceOrigin.y() + y, sourceOrigin.z() + z);
+                    this.slabs.set(x, y, z, this.palette.applyAsInt(biome));
+                }
+            }
+        }
+        this.slabs.end();
+    }
+
+    /**
+     * Gets whether all biome data has been written.
+     *
+     * @return True if every slab was written
+     */
+    public boolean isComplete() {
+        return this.slabs.isComplete();
+    }
+
+}
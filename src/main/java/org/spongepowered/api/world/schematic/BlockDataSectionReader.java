@@ -0,0 +1,146 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.volume.block.BlockSection;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Decodes the block data of a schematic into {@link BlockSection sections}
+ * without materializing the whole volume.
+ *
+ * <p>Schematic block data is a sequence of varint-encoded palette ids, one
+ * per block, ordered by y, then z, then x. This reader consumes that
+ * sequence one 16 block high slab at a time and yields the sections of each
+ * slab in turn, ordered by z, then x. Memory use is therefore bounded by the
+ * footprint of the schematic rather than its volume.</p>
+ *
+ * <p>Palette ids are resolved to block states once per distinct id.</p>
+ */
+public final class BlockDataSectionReader {
+
+    private final VarIntSlabReader slabs;
+    private final IntFunction<? extends BlockState> palette;
+    private BlockState[] resolved = new BlockState[16];
+
+    /**
+     * Creates a reader decoding block data from the given input.
+     *
+     * @param input The input, positioned at the first varint of the data
+     * @param size The size of the schematic
+     * @param palette The function resolving palette ids to block states
+     */
+    public BlockDataSectionReader(final InputStream input, final Vector3i size, final IntFunction<? extends BlockState> palette) {
+        this.slabs = new VarIntSlabReader(input, "Block", size);
+        this.palette = Objects.requireNonNull(palette, "palette");
+    }
+
+    /**
+     * Gets whether more sections remain to be read.
+     *
+     * @return True if more sections remain
+     */
+    public boolean hasNext() {
+        return this.slabs.hasNext();
+    }
+
+    /**
+     * Reads the next section.
+     *
+     * <p>Sections on the positive edges of a schematic whose size is not a
+     * multiple of 16 are only partially {@link BlockSection#writtenCount() written}.</p>
+     *
+     * @return The next section
+     * @throws IOException If reading from the input failed
+     * @throws NoSuchElementException If no sections remain
+     */
+    public Section next() throws IOException {
+        final Vector3i origin = this.slabs.next();
+        final Vector3i extent = this.slabs.extent();
+        final BlockSection section = new BlockSection();
+        for (int y = 0; y < extent.y(); y++) {
+            for (int z = 0; z < extent.z(); z++) {
+                for (int x = 0; x < extent.x(); x++) {
+                    section.set(x, y, z, this.resolve(this.slabs.id(x, y, z)));
+                }
+            }
+        }
+        return new Section(origin, section);
+    }
+
+    private BlockState resolve(final int id) {
+        if (id >= this.resolved.length) {
+            this.resolved = Arrays.copyOf(this.resolved, Math.max(id + 1, this.resolved.length * 2));
+        }
+        BlockState state = this.resolved[id];
+        if (state == null) {
+            state = Objects.requireNonNull(this.palette.apply(id), () -> "No block state for palette id " + id);
+            this.resolved[id] = state;
+        }
+        return state;
+    }
+
+    /**
+     * A section read from block data.
+     */
+    public static final class Section {
+
+        private final Vector3i origin;
+        private final BlockSection blocks;
+
+        Section(final Vector3i origin, final BlockSection blocks) {
+            this.origin = origin;
+            this.blocks = blocks;
+        }
+
+        /**
+         * Gets the position of the minimum corner of this section, relative
+         * to the minimum corner of the schematic.
+         *
+         * @return The origin of this section
+         */
+        public Vector3i origin() {
+            return this.origin;
+        }
+
+        /**
+         * Gets the blocks of this section.
+         *
+         * @return The blocks
+         */
+        public BlockSection blocks() {
+            return this.blocks;
+        }
+    }
+
+}
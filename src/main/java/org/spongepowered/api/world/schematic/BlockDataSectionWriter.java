@@ -0,0 +1,111 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.volume.block.BlockSection;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * Encodes {@link BlockSection sections} into the block data of a schematic
+ * without materializing the whole volume.
+ *
+ * <p>This is the counterpart of {@link BlockDataSectionReader}. Sections are
+ * buffered until the 16 block high slab they belong to is complete, at which
+ * point the slab is written as varint-encoded palette ids ordered by y, then
+ * z, then x. Sections of a slab may be written in any order, but all
+ * sections of a slab must be written before any section of the next one.</p>
+ *
+ * <p>Since the block palette of a schematic precedes its block data, the
+ * palette must be known before writing starts, either by using a global
+ * palette or by collecting the states of the source volume first.</p>
+ */
+public final class BlockDataSectionWriter {
+
+    private final VarIntSlabWriter slabs;
+    private final ToIntFunction<? super BlockState> palette;
+
+    /**
+     * Creates a writer encoding block data to the given output.
+     *
+     * @param output The output
+     * @param size The size of the schematic
+     * @param palette The function resolving block states to palette ids
+     */
+    public BlockDataSectionWriter(final OutputStream output, final Vector3i size, final ToIntFunction<? super BlockState> palette) {
+        this.slabs = new VarIntSlabWriter(output, size);
+        this.palette = Objects.requireNonNull(palette, "palette");
+    }
+
+    /**
+     * Writes the section with the given origin.
+     *
+     * <p>Every position of the section within the bounds of the schematic
+     * must have been written to it.</p>
+     *
+     * @param origin The minimum corner of the section relative to the
+     *     minimum corner of the schematic, a multiple of 16
+     * @param section The section
+     * @throws IOException If writing to the output failed
+     * @throws IllegalStateException If the section does not belong to the
+     *     current slab
+     */
+    public void write(final Vector3i origin, final BlockSection section) throws IOException {
+        final Vector3i extent = this.slabs.begin(origin);
+        final List<BlockState> states = section.palette();
+        final int[] ids = new int[states.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = this.palette.applyAsInt(states.get(i));
+        }
+        for (int y = 0; y < extent.y(); y++) {
+            for (int z = 0; z < extent.z(); z++) {
+                for (int x = 0; x < extent.x(); x++) {
+                    final int id = section.id(BlockSection.index(x, y, z));
+                    if (id == -1) {
+                        throw new IllegalArgumentException("Block at " + origin.add(x, y, z) + " was not written");
+                    }
+                    this.slabs.set(x, y, z, ids[id]);
+                }
+            }
+        }
+        this.slabs.end();
+    }
+
+    /**
+     * Gets whether all block data has been written.
+     *
+     * @return True if every slab was written
+     */
+    public boolean isComplete() {
+        return this.slabs.isComplete();
+    }
+
+}
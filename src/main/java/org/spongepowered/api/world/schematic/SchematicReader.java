@@ -0,0 +1,218 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.entity.BlockEntityArchetype;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
+import org.spongepowered.api.world.volume.block.BlockSection;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Reads a {@link Schematic} from a stream without materializing it.
+ *
+ * <p>Opening a reader decodes the header of the schematic: its size,
+ * offset, metadata and palettes. Block and biome data are then decoded on
+ * demand, one section at a time, through {@link #blocks()} and
+ * {@link #biomes()}. This keeps memory use bounded by the footprint of the
+ * schematic instead of its volume, and lets the schematic be applied to a
+ * world incrementally, for example a few sections per tick with
+ * {@link #applyNext(ServerWorld, Vector3i, BlockChangeFlag, int)}. Block
+ * entities and entities are sparse, and are read in full through
+ * {@link #blockEntities()} and {@link #entities()}.</p>
+ */
+public interface SchematicReader extends Closeable {
+
+    /**
+     * Opens a reader for the schematic in the given input, which must be in
+     * the Sponge schematic format.
+     *
+     * @param input The input
+     * @return The reader
+     * @throws IOException If the header could not be read
+     */
+    static SchematicReader open(final InputStream input) throws IOException {
+        return Sponge.game().factoryProvider().provide(Factory.class).reader(Objects.requireNonNull(input, "input"));
+    }
+
+    /**
+     * Gets the size of the schematic.
+     *
+     * @return The size
+     */
+    Vector3i size();
+
+    /**
+     * Gets the offset of the schematic, the position of its minimum corner
+     * relative to its origin.
+     *
+     * @return The offset
+     */
+    Vector3i offset();
+
+    /**
+     * Gets the metadata of the schematic.
+     *
+     * @return The metadata
+     */
+    DataView metadata();
+
+    /**
+     * Gets the palette resolving the ids of the block data of the schematic
+     * to block states.
+     *
+     * @return The block palette
+     */
+    Palette<BlockState, BlockType> blockPalette();
+
+    /**
+     * Gets the palette resolving the ids of the biome data of the schematic
+     * to biomes.
+     *
+     * @return The biome palette
+     */
+    Palette<Biome, Biome> biomePalette();
+
+    /**
+     * Gets the reader of the block data of the schematic.
+     *
+     * @return The block data reader
+     */
+    BlockDataSectionReader blocks();
+
+    /**
+     * Gets the reader of the biome data of the schematic, if it has any.
+     *
+     * @return The biome data reader, if the schematic has biome data
+     */
+    Optional<BiomeDataSectionReader> biomes();
+
+    /**
+     * Gets the block entities of the schematic, by their position relative
+     * to the minimum corner of the schematic.
+     *
+     * <p>Block entities are read in full the first time this is called.</p>
+     *
+     * @return The block entities
+     * @throws IOException If reading from the input failed
+     */
+    Map<Vector3i, BlockEntityArchetype> blockEntities() throws IOException;
+
+    /**
+     * Gets the entities of the schematic, with their positions relative to
+     * the minimum corner of the schematic.
+     *
+     * <p>Entities are read in full the first time this is called.</p>
+     *
+     * @return The entities
+     * @throws IOException If reading from the input failed
+     */
+    Collection<EntityArchetypeEntry> entities() throws IOException;
+
+    /**
+     * Reads up to the given number of sections and applies them to the given
+     * world.
+     *
+     * <p>Sections that line up with the sections of the world are written
+     * with {@link ServerWorld#setSection(int, int, int, BlockSection, BlockChangeFlag)},
+     * others block by block. The biomes of each section are applied along
+     * with its blocks. Block entities and entities are applied together with
+     * the last section, once every block they may depend on is in place.</p>
+     *
+     * @param world The world
+     * @param placement The position of the origin of the schematic in the
+     *     world
+     * @param flag The change flag
+     * @param sections The maximum number of sections to apply
+     * @return True if more sections remain
+     * @throws IOException If reading from the input failed
+     */
+    default boolean applyNext(final ServerWorld world, final Vector3i placement, final BlockChangeFlag flag, final int sections) throws IOException {
+        final BlockDataSectionReader blocks = this.blocks();
+        final Optional<BiomeDataSectionReader> biomes = this.biomes();
+        final Vector3i min = placement.add(this.offset());
+        final boolean remaining = blocks.hasNext();
+        for (int i = 0; i < sections && blocks.hasNext(); i++) {
+            final BlockDataSectionReader.Section section = blocks.next();
+            final Vector3i origin = min.add(section.origin());
+            final BlockSection data = section.blocks();
+            if ((origin.x() | origin.y() | origin.z()) % BlockSection.SIZE == 0) {
+                world.setSection(origin.x(), origin.y(), origin.z(), data, flag);
+            } else {
+                final List<BlockState> palette = data.palette();
+                for (int index = 0; index < BlockSection.VOLUME; index++) {
+                    final int id = data.id(index);
+                    if (id != -1) {
+                        world.setBlock(origin.x() + (index & 15), origin.y() + (index >> 8), origin.z() + (index >> 4 & 15), palette.get(id), flag);
+                    }
+                }
+            }
+            if (biomes.isPresent() && biomes.get().hasNext()) {
+                final BiomeDataSectionReader.Section biomeSection = biomes.get().next();
+                final Vector3i biomeOrigin = min.add(biomeSection.origin());
+                final Vector3i extent = biomeSection.extent();
+                for (int y = 0; y < extent.y(); y++) {
+                    for (int z = 0; z < extent.z(); z++) {
+                        for (int x = 0; x < extent.x(); x++) {
+                            world.setBiome(biomeOrigin.x() + x, biomeOrigin.y() + y, biomeOrigin.z() + z, biomeSection.biome(x, y, z));
+                        }
+                    }
+                }
+            }
+        }
+        if (remaining && !blocks.hasNext()) {
+            for (final Map.Entry<Vector3i, BlockEntityArchetype> entry : this.blockEntities().entrySet()) {
+                entry.getValue().apply(world.location(min.add(entry.getKey())));
+            }
+            final Vector3d entityMin = min.toDouble();
+            for (final EntityArchetypeEntry entry : this.entities()) {
+                entry.archetype().apply(world.location(entityMin.add(entry.position())));
+            }
+        }
+        return blocks.hasNext();
+    }
+
+    interface Factory {
+
+        SchematicReader reader(InputStream input) throws IOException;
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.entity.BlockEntityArchetype;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Writes a {@link Schematic} to a stream without materializing it.
+ *
+ * <p>Creating a writer writes the header of the schematic, including its
+ * palettes, which must therefore contain every state and biome that will be
+ * written. Block and biome data are then written one section at a time
+ * through {@link #blocks()} and {@link #biomes()}, and block entities and
+ * entities in full through {@link #writeBlockEntities(Map)} and
+ * {@link #writeEntities(Collection)}. Biome data, block entities and
+ * entities are optional. {@link #close() Closing} the writer fails if not
+ * all block data, or only part of the biome data, was written.</p>
+ */
+public interface SchematicWriter extends Closeable {
+
+    /**
+     * Creates a writer for a schematic in the Sponge schematic format.
+     *
+     * @param output The output
+     * @param size The size of the schematic
+     * @param offset The offset of the schematic
+     * @param metadata The metadata of the schematic
+     * @param blockPalette The block palette
+     * @param biomePalette The biome palette
+     * @return The writer
+     * @throws IOException If the header could not be written
+     */
+    static SchematicWriter create(final OutputStream output, final Vector3i size, final Vector3i offset, final DataView metadata,
+        final Palette<BlockState, BlockType> blockPalette, final Palette<Biome, Biome> biomePalette) throws IOException {
+        return Sponge.game().factoryProvider().provide(Factory.class).writer(Objects.requireNonNull(output, "output"),
+            Objects.requireNonNull(size, "size"), Objects.requireNonNull(offset, "offset"), Objects.requireNonNull(metadata, "metadata"),
+            Objects.requireNonNull(blockPalette, "blockPalette"), Objects.requireNonNull(biomePalette, "biomePalette"));
+    }
+
+    /**
+     * Gets the writer of the block data of the schematic.
+     *
+     * @return The block data writer
+     */
+    BlockDataSectionWriter blocks();
+
+    /**
+     * Gets the writer of the biome data of the schematic.
+     *
+     * @return The biome data writer
+     */
+    BiomeDataSectionWriter biomes();
+
+    /**
+     * Writes the block entities of the schematic.
+     *
+     * @param blockEntities The block entities, by their position relative to
+     *     the minimum corner of the schematic
+     * @throws IOException If writing to the output failed
+     * @throws IllegalStateException If block entities were already written
+     */
+    void writeBlockEntities(Map<Vector3i, BlockEntityArchetype> blockEntities) throws IOException;
+
+    /**
+     * Writes the entities of the schematic.
+     *
+     * @param entities The entities, with their positions relative to the
+     *     minimum corner of the schematic
+     * @throws IOException If writing to the output failed
+     * @throws IllegalStateException If entities were already written
+     */
+    void writeEntities(Collection<EntityArchetypeEntry> entities) throws IOException;
+
+    interface Factory {
+
+        SchematicWriter writer(OutputStream output, Vector3i size, Vector3i offset, DataView metadata,
+            Palette<BlockState, BlockType> blockPalette, Palette<Biome, Biome> biomePalette) throws IOException;
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import org.spongepowered.api.world.volume.block.BlockSection;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Walks schematic data stored as one varint-encoded palette id per position,
+ * ordered by y, then z, then x, one 16 block high slab and one section of
+ * that slab at a time.
+ */
+final class VarIntSlabReader {
+
+    private final InputStream input;
+    private final String name;
+    private final int width;
+    private final int height;
+    private final int length;
+    private final int[] slab;
+    private int slabY = -BlockSection.SIZE;
+    private int slabHeight;
+    private int sectionX;
+    private int sectionZ;
+    private int currentX;
+    private int currentZ;
+
+    VarIntSlabReader(final InputStream input, final String name, final Vector3i size) {
+        this.input = Objects.requireNonNull(input, "input");
+        this.name = name;
+        this.width = size.x();
+        this.height = size.y();
+        this.length = size.z();
+        if (this.width <= 0 || this.height <= 0 || this.length <= 0) {
+            throw new IllegalArgumentException("size " + size + " must be positive");
+        }
+        this.slab = new int[Math.multiplyExact(Math.multiplyExact(this.width, this.length), Math.min(this.height, BlockSection.SIZE))];
+        this.sectionX = this.width;
+        this.sectionZ = this.length;
+    }
+
+    boolean hasNext() {
+        return this.sectionX < this.width || this.slabY + BlockSection.SIZE < this.height;
+    }
+
+    /**
+     * Moves to the next section, reading the next slab first if the current
+     * one is exhausted.
+     *
+     * @return The origin of the section, relative to the minimum corner
+     */
+    Vector3i next() throws IOException {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (this.sectionX >= this.width) {
+            this.readSlab();
+        }
+        this.currentX = this.sectionX;
+        this.currentZ = this.sectionZ;
+        this.sectionZ += BlockSection.SIZE;
+        if (this.sectionZ >= this.length) {
+            this.sectionZ = 0;
+            this.sectionX += BlockSection.SIZE;
+        }
+        return new Vector3i(this.currentX, this.slabY, this.currentZ);
+    }
+
+    /**
+     * Gets the extent of the current section within the bounds of the
+     * schematic.
+     *
+     * @return The extent of the current section
+     */
+    Vector3i extent() {
+        return new Vector3i(Math.min(this.width - this.currentX, BlockSection.SIZE), this.slabHeight,
+            Math.min(this.length - this.currentZ, BlockSection.SIZE));
+    }
+
+    /**
+     * Gets the palette id at the given position local to the current section,
+     * which must be within its {@link #extent()}.
+     */
+    int id(final int x, final int y, final int z) {
+        return this.slab[(y * this.length + this.currentZ + z) * this.width + this.currentX + x];
+    }
+
+    private void readSlab() throws IOException {
+        this.slabY += BlockSection.SIZE;
+        this.slabHeight = Math.min(this.height - this.slabY, BlockSection.SIZE);
+        final int count = this.slabHeight * this.width * this.length;
+        for (int i = 0; i < count; i++) {
+            this.slab[i] = this.readVarInt();
+        }
+        this.sectionX = 0;
+        this.sectionZ = 0;
+    }
+
+    private int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final int read = this.input.read();
+            if (read == -1) {
+                throw new EOFException(this.name + " data ended before " + this.width + "x" + this.height + "x" + this.length + " positions were read");
+            }
+            value |= (read & 0x7F) << shift;
+            if ((read & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Negative palette id " + value);
+                }
+                return value;
+            }
+        }
+        throw new IOException("VarInt is too long");
+    }
+
+}
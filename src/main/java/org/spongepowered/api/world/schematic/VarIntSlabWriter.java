@@ -0,0 +1,136 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import org.spongepowered.api.world.volume.block.BlockSection;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The counterpart of {@link VarIntSlabReader}, buffering the sections of a
+ * slab until all of them were written and then writing the slab as
+ * varint-encoded palette ids.
+ */
+final class VarIntSlabWriter {
+
+    private final OutputStream output;
+    private final int width;
+    private final int height;
+    private final int length;
+    private final int[] slab;
+    private final boolean[] sectionsWritten;
+    private int slabY;
+    private int slabHeight;
+    private int written;
+    private int currentX;
+    private int currentZ;
+    private int currentCell = -1;
+
+    VarIntSlabWriter(final OutputStream output, final Vector3i size) {
+        this.output = Objects.requireNonNull(output, "output");
+        this.width = size.x();
+        this.height = size.y();
+        this.length = size.z();
+        if (this.width <= 0 || this.height <= 0 || this.length <= 0) {
+            throw new IllegalArgumentException("size " + size + " must be positive");
+        }
+        this.slab = new int[Math.multiplyExact(Math.multiplyExact(this.width, this.length), Math.min(this.height, BlockSection.SIZE))];
+        this.slabHeight = Math.min(this.height, BlockSection.SIZE);
+        this.sectionsWritten = new boolean[this.sectionsX() * ((this.length + BlockSection.SIZE - 1) / BlockSection.SIZE)];
+    }
+
+    /**
+     * Starts writing the section with the given origin.
+     *
+     * @return The extent of the section within the bounds of the schematic
+     */
+    Vector3i begin(final Vector3i origin) {
+        if (this.isComplete()) {
+            throw new IllegalStateException("All data has been written");
+        }
+        if (origin.y() != this.slabY || origin.x() % BlockSection.SIZE != 0 || origin.z() % BlockSection.SIZE != 0
+            || origin.x() < 0 || origin.x() >= this.width || origin.z() < 0 || origin.z() >= this.length) {
+            throw new IllegalStateException("Section " + origin + " is not part of the slab at y=" + this.slabY);
+        }
+        final int cell = origin.z() / BlockSection.SIZE * this.sectionsX() + origin.x() / BlockSection.SIZE;
+        if (this.sectionsWritten[cell]) {
+            throw new IllegalStateException("Section " + origin + " was already written");
+        }
+        this.currentX = origin.x();
+        this.currentZ = origin.z();
+        this.currentCell = cell;
+        return new Vector3i(Math.min(this.width - origin.x(), BlockSection.SIZE), this.slabHeight,
+            Math.min(this.length - origin.z(), BlockSection.SIZE));
+    }
+
+    /**
+     * Sets the palette id at the given position local to the section being
+     * written, which must be within its extent.
+     */
+    void set(final int x, final int y, final int z, final int id) {
+        this.slab[(y * this.length + this.currentZ + z) * this.width + this.currentX + x] = id;
+    }
+
+    /**
+     * Completes the section being written, writing out the slab if it was
+     * the last section of it.
+     */
+    void end() throws IOException {
+        this.sectionsWritten[this.currentCell] = true;
+        this.currentCell = -1;
+        if (++this.written == this.sectionsWritten.length) {
+            this.flushSlab();
+        }
+    }
+
+    boolean isComplete() {
+        return this.slabY >= this.height;
+    }
+
+    private int sectionsX() {
+        return (this.width + BlockSection.SIZE - 1) / BlockSection.SIZE;
+    }
+
+    private void flushSlab() throws IOException {
+        final int count = this.slabHeight * this.width * this.length;
+        for (int i = 0; i < count; i++) {
+            int value = this.slab[i];
+            while ((value & ~0x7F) != 0) {
+                this.output.write(value & 0x7F | 0x80);
+                value >>>= 7;
+            }
+            this.output.write(value);
+        }
+        this.written = 0;
+        Arrays.fill(this.sectionsWritten, false);
+        this.slabY += BlockSection.SIZE;
+        this.slabHeight = Math.min(this.height - this.slabY, BlockSection.SIZE);
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.archetype;
+
+import org.spongepowered.api.world.volume.block.BlockSection;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Limits how much of an {@link ArchetypeVolume} is applied to a world per
+ * tick by
+ * {@link ArchetypeVolume#applyToWorld(org.spongepowered.api.world.server.ServerWorld, org.spongepowered.math.vector.Vector3i, java.util.function.Supplier, org.spongepowered.plugin.PluginContainer, ApplyBudget, java.util.function.Consumer)}.
+ *
+ * <p>Blocks are applied one whole section at a time, and a tick stops
+ * before the next section would exceed either limit. This is why the block
+ * limit is at least {@link #MIN_BLOCKS_PER_TICK}. The time a section takes is
+ * estimated from the previous one. The first section of a tick is applied
+ * regardless of the time limit, so that every tick makes progress.</p>
+ */
+public final class ApplyBudget {
+
+    /**
+     * The default number of chunks kept loaded ahead of the chunk being
+     * applied.
+     */
+    public static final int DEFAULT_TICKETED_CHUNKS = 8;
+
+    /**
+     * The smallest number of blocks per tick a budget may allow, the number
+     * of blocks in a section.
+     */
+    public static final int MIN_BLOCKS_PER_TICK = BlockSection.VOLUME;
+
+    private final int blocksPerTick;
+    private final Duration timePerTick;
+    private final int ticketedChunks;
+
+    private ApplyBudget(final int blocksPerTick, final Duration timePerTick, final int ticketedChunks) {
+        this.blocksPerTick = blocksPerTick;
+        this.timePerTick = timePerTick;
+        this.ticketedChunks = ticketedChunks;
+    }
+
+    /**
+     * Creates a budget applying at most the given number of blocks per tick.
+     *
+     * @param blocksPerTick The maximum number of blocks per tick, at least
+     *     {@link #MIN_BLOCKS_PER_TICK}
+     * @return The budget
+     */
+    public static ApplyBudget blocks(final int blocksPerTick) {
+        return ApplyBudget.of(blocksPerTick, Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Creates a budget applying for at most the given time per tick.
+     *
+     * @param timePerTick The maximum time per tick
+     * @return The budget
+     */
+    public static ApplyBudget time(final Duration timePerTick) {
+        return ApplyBudget.of(Integer.MAX_VALUE, timePerTick);
+    }
+
+    /**
+     * Creates a budget applying at most the given number of blocks and for at
+     * most the given time per tick.
+     *
+     * @param blocksPerTick The maximum number of blocks per tick, at least
+     *     {@link #MIN_BLOCKS_PER_TICK}
+     * @param timePerTick The maximum time per tick
+     * @return The budget
+     */
+    public static ApplyBudget of(final int blocksPerTick, final Duration timePerTick) {
+        if (blocksPerTick < ApplyBudget.MIN_BLOCKS_PER_TICK) {
+            throw new IllegalArgumentException("blocksPerTick must be at least " + ApplyBudget.MIN_BLOCKS_PER_TICK);
+        }
+        if (Objects.requireNonNull(timePerTick, "timePerTick").isNegative() || timePerTick.isZero()) {
+            throw new IllegalArgumentException("timePerTick must be positive");
+        }
+        return new ApplyBudget(blocksPerTick, timePerTick, ApplyBudget.DEFAULT_TICKETED_CHUNKS);
+    }
+
+    /**
+     * Creates a copy of this budget keeping at most the given number of
+     * chunks loaded through tickets at any time.
+     *
+     * @param ticketedChunks The maximum number of ticketed chunks
+     * @return The new budget
+     */
+    public ApplyBudget withTicketedChunks(final int ticketedChunks) {
+        if (ticketedChunks <= 0) {
+            throw new IllegalArgumentException("ticketedChunks must be positive");
+        }
+        return new ApplyBudget(this.blocksPerTick, this.timePerTick, ticketedChunks);
+    }
+
+    public int blocksPerTick() {
+        return this.blocksPerTick;
+    }
+
+    public Duration timePerTick() {
+        return this.timePerTick;
+    }
+
+    /**
+     * Gets the maximum number of chunks kept loaded through tickets at any
+     * time, including the chunk being applied.
+     *
+     * @return The maximum number of ticketed chunks
+     */
+    public int ticketedChunks() {
+        return this.ticketedChunks;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", ApplyBudget.class.getSimpleName() + "[", "]")
+            .add("blocksPerTick=" + this.blocksPerTick)
+            .add("timePerTick=" + this.timePerTick)
+            .add("ticketedChunks=" + this.ticketedChunks)
+            .toString();
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.archetype;
+
+import java.util.StringJoiner;
+
+/**
+ * A snapshot of the progress of an incremental
+ * {@link ArchetypeVolume#applyToWorld(org.spongepowered.api.world.server.ServerWorld, org.spongepowered.math.vector.Vector3i, java.util.function.Supplier, org.spongepowered.plugin.PluginContainer, ApplyBudget, java.util.function.Consumer)
+ * application} of an archetype volume.
+ */
+public final class ApplyProgress {
+
+    private final long appliedBlocks;
+    private final long totalBlocks;
+    private final int completedChunks;
+    private final int totalChunks;
+
+    ApplyProgress(final long appliedBlocks, final long totalBlocks, final int completedChunks, final int totalChunks) {
+        this.appliedBlocks = appliedBlocks;
+        this.totalBlocks = totalBlocks;
+        this.completedChunks = completedChunks;
+        this.totalChunks = totalChunks;
+    }
+
+    public long appliedBlocks() {
+        return this.appliedBlocks;
+    }
+
+    public long totalBlocks() {
+        return this.totalBlocks;
+    }
+
+    public int completedChunks() {
+        return this.completedChunks;
+    }
+
+    public int totalChunks() {
+        return this.totalChunks;
+    }
+
+    /**
+     * Gets the applied fraction of all blocks, between 0 and 1.
+     *
+     * @return The applied fraction
+     */
+    public double fraction() {
+        return this.totalBlocks == 0 ? 1 : (double) this.appliedBlocks / this.totalBlocks;
+    }
+
+    /**
+     * Gets whether the application has completed.
+     *
+     * @return True if every chunk was applied
+     */
+    public boolean isDone() {
+        return this.completedChunks == this.totalChunks;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", ApplyProgress.class.getSimpleName() + "[", "]")
+            .add("appliedBlocks=" + this.appliedBlocks)
+            .add("totalBlocks=" + this.totalBlocks)
+            .add("completedChunks=" + this.completedChunks)
+            .add("totalChunks=" + this.totalChunks)
+            .toString();
+    }
+
+}
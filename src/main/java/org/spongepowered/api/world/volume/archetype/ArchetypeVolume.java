@@ -41,8 +41,11 @@
 import org.spongepowered.api.world.volume.stream.VolumePositionTranslators;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
+import org.spongepowered.plugin.PluginContainer;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 public interface ArchetypeVolume extends BlockVolume.Modifiable<ArchetypeVolume>,
@@ -108,4 +111,39 @@ default void applyToWorld(final ServerWorld target, final Vector3i placement, fi
         }
     }
 
+    /**
+     * Applies this volume to the given world incrementally, spreading the
+     * work over as many ticks as the given budget requires.
+     *
+     * <p>The volume is applied chunk by chunk, each chunk one section at a
+     * time, by a task scheduled on the server scheduler for the given plugin.
+     * Only the chunk being applied and the next few, up to
+     * {@link ApplyBudget#ticketedChunks()}, are kept loaded through
+     * {@link org.spongepowered.api.world.server.ChunkManager#requestTicket tickets},
+     * and each ticket is released once its chunk is complete. Biomes, block
+     * entities and entities of a chunk are applied after its blocks.</p>
+     *
+     * <p>The progress consumer is called on the main thread after each
+     * chunk. Cancelling the returned future stops the application on the
+     * next tick, leaving chunks that were already applied in place.</p>
+     *
+     * @param target The world to apply this volume to
+     * @param placement The position to apply this volume at
+     * @param spawnContext The spawn type of applied entities
+     * @param plugin The plugin scheduling the application
+     * @param budget The per tick budget
+     * @param progress The consumer of progress updates
+     * @return A future completing once the whole volume was applied
+     */
+    default CompletableFuture<ApplyProgress> applyToWorld(final ServerWorld target, final Vector3i placement, final Supplier<SpawnType> spawnContext,
+        final PluginContainer plugin, final ApplyBudget budget, final Consumer<ApplyProgress> progress) {
+        Objects.requireNonNull(target, "Target world cannot be null");
+        Objects.requireNonNull(placement, "Target position cannot be null");
+        Objects.requireNonNull(spawnContext, "Spawn context cannot be null");
+        Objects.requireNonNull(plugin, "Plugin cannot be null");
+        Objects.requireNonNull(budget, "Budget cannot be null");
+        Objects.requireNonNull(progress, "Progress consumer cannot be null");
+        return new IncrementalApplier(this, target, placement, spawnContext, budget, progress).start(plugin);
+    }
+
 }
@@ -0,0 +1,244 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.archetype;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.EventContextKeys;
+import org.spongepowered.api.event.cause.entity.SpawnType;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
+import org.spongepowered.api.world.BlockChangeFlags;
+import org.spongepowered.api.world.server.ChunkManager;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.api.world.server.Ticket;
+import org.spongepowered.api.world.server.TicketType;
+import org.spongepowered.api.world.storage.ChunkLayout;
+import org.spongepowered.api.world.volume.block.BlockSection;
+import org.spongepowered.api.world.volume.stream.StreamOptions;
+import org.spongepowered.api.world.volume.stream.VolumeApplicators;
+import org.spongepowered.api.world.volume.stream.VolumeCollectors;
+import org.spongepowered.api.world.volume.stream.VolumePartition;
+import org.spongepowered.api.world.volume.stream.VolumePositionTranslators;
+import org.spongepowered.math.vector.Vector3i;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Applies an {@link ArchetypeVolume} to a world over several ticks, chunk by
+ * chunk, within an {@link ApplyBudget}.
+ */
+final class IncrementalApplier {
+
+    private static final Vector3i SECTION_SIZE = new Vector3i(BlockSection.SIZE, BlockSection.SIZE, BlockSection.SIZE);
+    private static @Nullable TicketType<Vector3i> ticketType;
+
+    private final ArchetypeVolume volume;
+    private final ServerWorld target;
+    private final Vector3i placement;
+    private final Supplier<SpawnType> spawnContext;
+    private final ApplyBudget budget;
+    private final Consumer<ApplyProgress> progress;
+    private final ChunkLayout layout;
+    private final List<VolumePartition> chunks;
+    private final long totalBlocks;
+    private final Map<Integer, Ticket<Vector3i>> tickets = new LinkedHashMap<>();
+    private final CompletableFuture<ApplyProgress> future = new CompletableFuture<>();
+    private @Nullable Deque<VolumePartition> sections;
+    private int chunk;
+    private long appliedBlocks;
+    // The time the previous section took per block, estimating how long the
+    // next one takes
+    private double nanosPerBlock;
+
+    IncrementalApplier(final ArchetypeVolume volume, final ServerWorld target, final Vector3i placement, final Supplier<SpawnType> spawnContext,
+        final ApplyBudget budget, final Consumer<ApplyProgress> progress) {
+        this.volume = volume;
+        this.target = target;
+        this.placement = placement;
+        this.spawnContext = spawnContext;
+        this.budget = budget;
+        this.progress = progress;
+        this.layout = target.engine().chunkLayout();
+        final VolumePartition region = VolumePartition.of(volume.min().add(placement), volume.max().add(placement), this.layout);
+        this.chunks = region.chunks();
+        this.totalBlocks = region.blockCount();
+    }
+
+    private static synchronized TicketType<Vector3i> ticketType() {
+        if (IncrementalApplier.ticketType == null) {
+            IncrementalApplier.ticketType = TicketType.<Vector3i>builder()
+                .name("archetype_apply")
+                .lifetime(Ticks.of(100))
+                .build();
+        }
+        return IncrementalApplier.ticketType;
+    }
+
+    CompletableFuture<ApplyProgress> start(final PluginContainer plugin) {
+        Sponge.server().scheduler().submit(Task.builder()
+            .plugin(plugin)
+            .interval(Ticks.single())
+            .execute(this::tick)
+            .build());
+        return this.future;
+    }
+
+    private void tick(final ScheduledTask task) {
+        if (this.future.isDone()) {
+            // Cancelled by the caller
+            this.stop(task);
+            return;
+        }
+        try {
+            this.ticketAhead();
+            final long start = System.nanoTime();
+            final long time = this.budget.timePerTick().toNanos();
+            long blocks = 0;
+            while (this.chunk < this.chunks.size()) {
+                if (blocks > 0 && System.nanoTime() - start >= time) {
+                    break;
+                }
+                final VolumePartition chunk = this.chunks.get(this.chunk);
+                if (this.sections == null) {
+                    this.sections = new ArrayDeque<>(VolumePartition.of(chunk.min(), chunk.max(), IncrementalApplier.SECTION_SIZE).chunks());
+                }
+                final @Nullable VolumePartition section = this.sections.peek();
+                if (section != null) {
+                    // Sections are applied whole, so only start one that fits in
+                    // what is left of the budget. The first section of a tick
+                    // always fits the block budget and ignores the time budget,
+                    // so that every tick makes progress
+                    final long count = section.blockCount();
+                    if (blocks + count > this.budget.blocksPerTick()
+                        || blocks > 0 && System.nanoTime() - start + (long) (count * this.nanosPerBlock) > time) {
+                        break;
+                    }
+                    final long sectionStart = System.nanoTime();
+                    this.applyBlocks(section);
+                    this.nanosPerBlock = (double) (System.nanoTime() - sectionStart) / count;
+                    this.sections.poll();
+                    blocks += count;
+                    this.appliedBlocks += count;
+                    continue;
+                }
+                this.applyRemainder(chunk);
+                this.sections = null;
+                final @Nullable Ticket<Vector3i> ticket = this.tickets.remove(this.chunk);
+                if (ticket != null) {
+                    this.target.chunkManager().releaseTicket(ticket);
+                }
+                this.chunk++;
+                this.progress.accept(this.snapshot());
+                this.ticketAhead();
+            }
+            if (this.chunk == this.chunks.size()) {
+                this.stop(task);
+                this.future.complete(this.snapshot());
+            }
+        } catch (final RuntimeException e) {
+            this.stop(task);
+            this.future.completeExceptionally(e);
+        }
+    }
+
+    private void applyBlocks(final VolumePartition section) {
+        this.volume.blockStateStream(section.min().sub(this.placement), section.max().sub(this.placement), StreamOptions.lazily())
+            .transform(VolumePositionTranslators.relativeTo(this.placement))
+            .apply(VolumeCollectors.applyBlocksToWorldBySection(this.target, BlockChangeFlags.DEFAULT_PLACEMENT));
+    }
+
+    private void applyRemainder(final VolumePartition chunk) {
+        final Vector3i min = chunk.min().sub(this.placement);
+        final Vector3i max = chunk.max().sub(this.placement);
+        try (final CauseStackManager.StackFrame frame = Sponge.server().causeStackManager().pushCauseFrame()) {
+            this.volume.biomeStream(min, max, StreamOptions.lazily())
+                .apply(VolumeCollectors.of(
+                    this.target,
+                    VolumePositionTranslators.relativeTo(this.placement),
+                    VolumeApplicators.applyBiomes()
+                ));
+            this.volume.blockEntityArchetypeStream(min, max, StreamOptions.lazily())
+                .apply(VolumeCollectors.of(
+                    this.target,
+                    VolumePositionTranslators.relativeTo(this.placement),
+                    VolumeApplicators.applyBlockEntityArchetype()
+                ));
+            frame.addContext(EventContextKeys.SPAWN_TYPE, this.spawnContext);
+            this.volume.entityArchetypeStream(min, max, StreamOptions.lazily())
+                .apply(VolumeCollectors.of(
+                    this.target,
+                    VolumePositionTranslators.relativeTo(this.placement),
+                    VolumeApplicators.applyEntityArchetype()
+                ));
+        }
+    }
+
+    // Keeps the chunk being applied and the chunks following it loaded,
+    // within the ticket limit of the budget
+    private void ticketAhead() {
+        final ChunkManager manager = this.target.chunkManager();
+        final int end = Math.min(this.chunks.size(), this.chunk + this.budget.ticketedChunks());
+        for (int index = this.chunk; index < end; index++) {
+            final @Nullable Ticket<Vector3i> existing = this.tickets.get(index);
+            if (existing != null && manager.renewTicket(existing)) {
+                continue;
+            }
+            final Vector3i chunkPosition = this.layout.forceToChunk(this.chunks.get(index).min());
+            final Optional<Ticket<Vector3i>> ticket = manager.requestTicket(IncrementalApplier.ticketType(), chunkPosition, chunkPosition, 0);
+            if (ticket.isPresent()) {
+                this.tickets.put(index, ticket.get());
+            } else {
+                this.tickets.remove(index);
+            }
+        }
+    }
+
+    private void stop(final ScheduledTask task) {
+        task.cancel();
+        final ChunkManager manager = this.target.chunkManager();
+        for (final Iterator<Ticket<Vector3i>> iterator = this.tickets.values().iterator(); iterator.hasNext(); ) {
+            manager.releaseTicket(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    private ApplyProgress snapshot() {
+        return new ApplyProgress(this.appliedBlocks, this.totalBlocks, this.chunk, this.chunks.size());
+    }
+
+}
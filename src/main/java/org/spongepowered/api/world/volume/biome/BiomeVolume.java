@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.world.volume.biome;
 
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.util.PositionOutOfBoundsException;
 import org.spongepowered.api.world.biome.Biome;
 import org.spongepowered.api.world.volume.ImmutableVolume;
@@ -36,6 +37,7 @@
 import org.spongepowered.math.vector.Vector3i;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 public interface BiomeVolume extends Volume {
 
@@ -77,6 +79,31 @@ default Biome biome(final Vector3i position) {
          * @return The volume stream
          */
         VolumeStream<B, Biome> biomeStream(Vector3i min, Vector3i max, StreamOptions options);
+
+        /**
+         * Captures an immutable snapshot of the {@link Biome}s between
+         * {@code min} and {@code max}. Unless overridden, this blocks the
+         * calling thread while the whole range is copied, and returns an
+         * already completed future.
+         *
+         * <p>Volumes backed by a live world override it to capture the
+         * snapshot between two ticks, completing the returned future once it
+         * is taken, so it never observes a partially applied tick. The
+         * snapshot stores its biomes against a palette, so capturing an area
+         * dominated by a few biomes stays compact.</p>
+         *
+         * <p>Streams over the snapshot, including
+         * {@link VolumeStream#parallel() parallel} ones, may run on any
+         * executor, which allows heavy read-only analysis to leave the main
+         * thread.</p>
+         *
+         * @param min The minimum coordinate set
+         * @param max The maximum coordinate set
+         * @return A future of the snapshot
+         */
+        default CompletableFuture<BiomeVolume.Immutable> asyncBiomeSnapshot(final Vector3i min, final Vector3i max) {
+            return CompletableFuture.completedFuture(Sponge.game().factoryProvider().provide(BiomeVolumeFactory.class).immutableOf(this, min, max));
+        }
     }
 
     /**
@@ -0,0 +1,191 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.block;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.BlockState;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A buffer of block writes to a single 16x16x16 chunk section, stored the
+ * way sections are stored in a world: a palette of distinct
+ * {@link BlockState block states} and one palette index per block.
+ *
+ * <p>Buffers are filled through {@link #set(int, int, int, BlockState)}
+ * with coordinates local to the section, and written to a volume at once
+ * with
+ * {@link PhysicsAwareMutableBlockVolume#setSection(int, int, int, BlockSection, org.spongepowered.api.world.BlockChangeFlag)}.
+ * Positions that were never written are left untouched by that call.</p>
+ */
+public final class BlockSection {
+
+    /**
+     * The length of each side of a section.
+     */
+    public static final int SIZE = 16;
+
+    /**
+     * The number of blocks in a section.
+     */
+    public static final int VOLUME = BlockSection.SIZE * BlockSection.SIZE * BlockSection.SIZE;
+
+    private static final short UNWRITTEN = -1;
+
+    private final List<BlockState> palette = new ArrayList<>();
+    private final Map<BlockState, Integer> ids = new HashMap<>();
+    private final short[] indices = new short[BlockSection.VOLUME];
+    private int written;
+
+    public BlockSection() {
+        Arrays.fill(this.indices, BlockSection.UNWRITTEN);
+    }
+
+    /**
+     * Gets the index of the given local position within a section, ordered
+     * by y, then z, then x.
+     *
+     * @param x The local x coordinate
+     * @param y The local y coordinate
+     * @param z The local z coordinate
+     * @return The index of the position
+     */
+    public static int index(final int x, final int y, final int z) {
+        if ((x | y | z) >>> 4 != 0) {
+            throw new IndexOutOfBoundsException("(" + x + ", " + y + ", " + z + ") is outside of a section");
+        }
+        return y << 8 | z << 4 | x;
+    }
+
+    /**
+     * Buffers a block write at the given local position, replacing any
+     * write previously buffered there.
+     *
+     * @param x The local x coordinate
+     * @param y The local y coordinate
+     * @param z The local z coordinate
+     * @param state The block state
+     * @return This section, for chaining
+     */
+    public BlockSection set(final int x, final int y, final int z, final BlockState state) {
+        final int index = BlockSection.index(x, y, z);
+        Integer id = this.ids.get(Objects.requireNonNull(state, "state"));
+        if (id == null) {
+            id = this.palette.size();
+            this.palette.add(state);
+            this.ids.put(state, id);
+        }
+        if (this.indices[index] == BlockSection.UNWRITTEN) {
+            this.written++;
+        }
+        this.indices[index] = id.shortValue();
+        return this;
+    }
+
+    /**
+     * Buffers the given block state for every position of this section.
+     *
+     * @param state The block state
+     * @return This section, for chaining
+     */
+    public BlockSection fill(final BlockState state) {
+        this.clear();
+        this.palette.add(Objects.requireNonNull(state, "state"));
+        this.ids.put(state, 0);
+        Arrays.fill(this.indices, (short) 0);
+        this.written = BlockSection.VOLUME;
+        return this;
+    }
+
+    /**
+     * Gets the block state buffered at the given local position.
+     *
+     * @param x The local x coordinate
+     * @param y The local y coordinate
+     * @param z The local z coordinate
+     * @return The block state, or null if the position was not written
+     */
+    public @Nullable BlockState get(final int x, final int y, final int z) {
+        final int id = this.id(BlockSection.index(x, y, z));
+        return id == -1 ? null : this.palette.get(id);
+    }
+
+    /**
+     * Gets the palette index buffered at the given {@link #index(int, int, int) index}.
+     *
+     * @param index The index of the position
+     * @return The palette index, or -1 if the position was not written
+     */
+    public int id(final int index) {
+        return this.indices[index];
+    }
+
+    /**
+     * Gets the distinct block states written to this section, in the order
+     * they were first written. A state's position in this list is its
+     * palette index.
+     *
+     * @return The palette
+     */
+    public List<BlockState> palette() {
+        return Collections.unmodifiableList(this.palette);
+    }
+
+    /**
+     * Gets the number of positions written to this section.
+     *
+     * @return The number of written positions
+     */
+    public int writtenCount() {
+        return this.written;
+    }
+
+    /**
+     * Gets whether every position of this section was written, in which
+     * case its storage can be replaced as a whole.
+     *
+     * @return True if the section was completely written
+     */
+    public boolean isComplete() {
+        return this.written == BlockSection.VOLUME;
+    }
+
+    /**
+     * Discards every buffered write.
+     */
+    public void clear() {
+        this.palette.clear();
+        this.ids.clear();
+        Arrays.fill(this.indices, BlockSection.UNWRITTEN);
+        this.written = 0;
+    }
+
+}
@@ -44,6 +44,8 @@
 import org.spongepowered.math.vector.Vector2i;
 import org.spongepowered.math.vector.Vector3i;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface BlockVolume extends Volume {
 
     /**
@@ -124,6 +126,31 @@ default Vector3i highestPositionAt(final Vector3i position) {
          */
         VolumeStream<B, BlockState> blockStateStream(Vector3i min, Vector3i max, StreamOptions options);
 
+        /**
+         * Captures an immutable snapshot of the {@link BlockState}s between
+         * {@code min} and {@code max}. Unless overridden, this blocks the
+         * calling thread while the whole range is copied, and returns an
+         * already completed future.
+         *
+         * <p>Volumes backed by a live world override it to capture the
+         * snapshot between two ticks, completing the returned future once it
+         * is taken, so it never observes a partially applied tick. The
+         * snapshot stores its block states against a palette, so capturing
+         * an area dominated by a few block states stays compact.</p>
+         *
+         * <p>Streams over the snapshot, including
+         * {@link VolumeStream#parallel() parallel} ones, may run on any
+         * executor, which allows heavy read-only analysis to leave the main
+         * thread.</p>
+         *
+         * @param min The minimum coordinate set
+         * @param max The maximum coordinate set
+         * @return A future of the snapshot
+         */
+        default CompletableFuture<BlockVolume.Immutable> asyncBlockSnapshot(final Vector3i min, final Vector3i max) {
+            return CompletableFuture.completedFuture(Sponge.game().factoryProvider().provide(BlockVolumeFactory.class).immutableOf(this, min, max));
+        }
+
     }
 
     /**
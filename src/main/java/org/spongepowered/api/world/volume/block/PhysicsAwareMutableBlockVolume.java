@@ -30,6 +30,8 @@
 import org.spongepowered.api.world.BlockChangeFlags;
 import org.spongepowered.math.vector.Vector3i;
 
+import java.util.List;
+
 public interface PhysicsAwareMutableBlockVolume<P extends PhysicsAwareMutableBlockVolume<P>> extends BlockVolume.Modifiable<P> {
 
     /**
@@ -99,4 +101,39 @@ default boolean setBlock(final Vector3i position, final BlockState blockState, f
      *         bounds of the volume
      */
     boolean setBlock(int x, int y, int z, BlockState blockState, BlockChangeFlag flag);
+
+    /**
+     * Writes the blocks buffered in the given {@link BlockSection section} to
+     * the 16x16x16 section of this volume starting at the given position.
+     * Positions not written to the buffer are left untouched.
+     *
+     * <p>Volumes storing blocks in paletted sections should override this to
+     * rewrite the palette and packed data of a {@link BlockSection#isComplete()
+     * complete} section in place, performing a single lighting and heightmap
+     * update and a single client resync for the whole section. By default,
+     * every written block is set individually.</p>
+     *
+     * @param x The minimum x coordinate of the section, a multiple of 16
+     * @param y The minimum y coordinate of the section, a multiple of 16
+     * @param z The minimum z coordinate of the section, a multiple of 16
+     * @param section The buffered section
+     * @param flag The change flag
+     * @return True if every written block was set
+     * @throws PositionOutOfBoundsException If the section is not within the
+     *     volume bounds
+     */
+    default boolean setSection(final int x, final int y, final int z, final BlockSection section, final BlockChangeFlag flag) {
+        if ((x | y | z) % BlockSection.SIZE != 0) {
+            throw new IllegalArgumentException("(" + x + ", " + y + ", " + z + ") is not aligned to a section");
+        }
+        final List<BlockState> palette = section.palette();
+        boolean allSet = true;
+        for (int index = 0; index < BlockSection.VOLUME; index++) {
+            final int id = section.id(index);
+            if (id != -1) {
+                allSet &= this.setBlock(x + (index & 15), y + (index >> 8), z + (index >> 4 & 15), palette.get(id), flag);
+            }
+        }
+        return allSet;
+    }
 }
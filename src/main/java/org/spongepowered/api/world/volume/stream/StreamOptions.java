@@ -43,6 +43,17 @@ public static StreamOptions forceLoadedAndCopied() {
         return StreamOptions.builder().setCarbonCopy(true).setLoadingStyle(LoadingStyle.FORCED_GENERATED).build();
     }
 
+    /**
+     * Gets options streaming over a {@link #copyOnWrite() copy-on-write}
+     * snapshot of the already generated sections of the area, suited to long
+     * running or asynchronous read-only scans.
+     *
+     * @return The snapshot options
+     */
+    public static StreamOptions snapshot() {
+        return StreamOptions.builder().setCopyOnWrite(true).setLoadingStyle(LoadingStyle.FORCED_UNGENERATED).build();
+    }
+
     enum LoadingStyle {
         /**
          * Forces the loading of the entire area to calculate the exact
@@ -163,10 +174,36 @@ public boolean immediateLoading() {
      * perform overall on a larger scale, but effectively can be safer to
      * perform sensitive filtering operations.
      *
+     * <p>Read-only streams should prefer {@link #copyOnWrite()}, which gives
+     * the same guarantee without copying the whole area up front. If both
+     * are requested, copy-on-write is used.</p>
+     *
      * @return True if a copy of the volume's stream targets will be made
      */
     boolean carbonCopy();
 
+    /**
+     * Whether the stream reads from a copy-on-write snapshot of the area
+     * requested, taken when the stream is created.
+     *
+     * <p>Rather than copying the area up front like a
+     * {@link #carbonCopy() carbon copy}, the sections of the targeted
+     * {@link Volume} are shared with the stream by reference. A section is
+     * only copied when the volume is about to modify it while the stream is
+     * still using it, in which case the stream keeps reading the unmodified
+     * copy. The stream therefore sees the area as it was when it was created,
+     * while changes to the volume proceed without waiting on the stream.</p>
+     *
+     * <p>The snapshot is held until the terminal operation of the stream
+     * completes. Sections not loaded when the stream is created are read as
+     * they are loaded, according to the {@link #loadingStyle() loading style};
+     * {@link LoadingStyle#immediateLoading() immediate loading} is needed for
+     * the whole area to be consistent.</p>
+     *
+     * @return True if the stream reads from a copy-on-write snapshot
+     */
+    boolean copyOnWrite();
+
     /**
      * Determines the loading style of sections to populate elements for a Stream,
      * such that the area may be pre-calculated or the elements precalculated based
@@ -179,6 +216,8 @@ interface Builder extends org.spongepowered.api.util.Builder<StreamOptions, Buil
 
         Builder setCarbonCopy(boolean copies);
 
+        Builder setCopyOnWrite(boolean copyOnWrite);
+
         Builder setLoadingStyle(LoadingStyle style);
 
         @Override
@@ -36,4 +36,15 @@
 
     VolumeApplicator<M, T, R> applicator();
 
+    /**
+     * Called by {@link VolumeStream#apply(VolumeCollector)} once the last
+     * element was applied, allowing collectors that buffer writes to flush
+     * them to the {@link #target() target}.
+     *
+     * <p>{@link VolumeStream#applyUntil(VolumeCollector, java.util.function.Predicate)}
+     * does not call this, as it may stop before the last element.</p>
+     */
+    default void complete() {
+    }
+
 }
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.world.volume.stream;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.entity.BlockEntity;
 import org.spongepowered.api.block.entity.BlockEntityArchetype;
@@ -34,8 +35,13 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.volume.MutableVolume;
+import org.spongepowered.api.world.volume.block.BlockSection;
+import org.spongepowered.api.world.volume.block.PhysicsAwareMutableBlockVolume;
+import org.spongepowered.math.vector.Vector3i;
 
 import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -51,6 +57,55 @@ public final class VolumeCollectors {
         return VolumeCollectors.applyBlocksToWorld(world, BlockChangeFlags.ALL);
     }
 
+    /**
+     * Creates a collector applying blocks to the given world one chunk
+     * section at a time, rather than one block at a time.
+     *
+     * @param world The world
+     * @param flag The change flag
+     * @param <W> The type of world
+     * @return The collector
+     * @see #applyBlocksBySection(PhysicsAwareMutableBlockVolume, BlockChangeFlag)
+     */
+    public static <W extends World<W, ?>> VolumeCollector<W, BlockState, Boolean> applyBlocksToWorldBySection(final W world, final BlockChangeFlag flag) {
+        return VolumeCollectors.applyBlocksBySection(world, flag);
+    }
+
+    public static <W extends World<W, ?>> VolumeCollector<W, BlockState, Boolean> applyBlocksToWorldBySection(final W world) {
+        return VolumeCollectors.applyBlocksBySection(world, BlockChangeFlags.ALL);
+    }
+
+    /**
+     * Creates a collector grouping block writes by 16x16x16 chunk section.
+     *
+     * <p>Writes are buffered in a {@link BlockSection} per section. As soon
+     * as every block of a section has been written, the whole section is
+     * written through
+     * {@link PhysicsAwareMutableBlockVolume#setSection(int, int, int, BlockSection, BlockChangeFlag)},
+     * which lets the volume replace its storage in place and perform one
+     * lighting, heightmap and client update for the section. Sections that
+     * are only partially covered are written the same way once the collector
+     * {@link VolumeCollector#complete() completes}, which
+     * {@link VolumeStream#apply(VolumeCollector)} does after the last
+     * element.</p>
+     *
+     * <p>The result of each application is false only if writing a complete
+     * section failed to set any of its blocks. Buffering an element is always
+     * successful, so {@link VolumeStream#applyUntil(VolumeCollector, java.util.function.Predicate)}
+     * only stops after a failed section, leaving the partially covered
+     * sections unwritten.</p>
+     *
+     * @param volume The target volume
+     * @param flag The change flag
+     * @param <M> The type of volume
+     * @return The collector
+     */
+    public static <M extends PhysicsAwareMutableBlockVolume<M>> VolumeCollector<M, BlockState, Boolean> applyBlocksBySection(final M volume, final BlockChangeFlag flag) {
+        final WeakReference<M> volumeRef = new WeakReference<>(Objects.requireNonNull(volume, "Volume cannot be null!"));
+        Objects.requireNonNull(flag, "BlockChangeFlag cannot be null!");
+        return new SectionCollector<>(() -> Objects.requireNonNull(volumeRef.get(), "Target volume de-referenced"), flag);
+    }
+
     public static <W extends World<W, ?>> VolumeCollector<W, BlockEntity, Boolean> applyBlockEntityToWorld(final W world) {
         return VolumeCollectors.of(world, VolumePositionTranslators.identity(), VolumeApplicators.applyBlockEntities());
     }
@@ -93,5 +148,72 @@ public VolumeApplicator<M, T, R> applicator() {
         };
     }
 
+    private static final class SectionCollector<M extends PhysicsAwareMutableBlockVolume<M>> implements VolumeCollector<M, BlockState, Boolean> {
+
+        private final Supplier<M> target;
+        private final BlockChangeFlag flag;
+        private final Map<Vector3i, BlockSection> pending = new LinkedHashMap<>();
+        // The section the previous element was buffered in, as consecutive
+        // elements usually fall into the same section
+        private @Nullable BlockSection last;
+        private int lastX;
+        private int lastY;
+        private int lastZ;
+
+        SectionCollector(final Supplier<M> target, final BlockChangeFlag flag) {
+            this.target = target;
+            this.flag = flag;
+        }
+
+        @Override
+        public Supplier<M> target() {
+            return this.target;
+        }
+
+        @Override
+        public VolumePositionTranslator<M, BlockState> positionTransform() {
+            return VolumePositionTranslators.identity();
+        }
+
+        @Override
+        public VolumeApplicator<M, BlockState, Boolean> applicator() {
+            return (volume, element) -> {
+                final Vector3i position = element.position().round().toInt();
+                final int x = position.x() & -BlockSection.SIZE;
+                final int y = position.y() & -BlockSection.SIZE;
+                final int z = position.z() & -BlockSection.SIZE;
+                BlockSection section = this.last;
+                if (section == null || x != this.lastX || y != this.lastY || z != this.lastZ) {
+                    section = this.pending.computeIfAbsent(new Vector3i(x, y, z), key -> new BlockSection());
+                    this.last = section;
+                    this.lastX = x;
+                    this.lastY = y;
+                    this.lastZ = z;
+                }
+                section.set(position.x() - x, position.y() - y, position.z() - z, element.type());
+                if (!section.isComplete()) {
+                    return true;
+                }
+                this.pending.remove(new Vector3i(x, y, z));
+                this.last = null;
+                return volume.setSection(x, y, z, section, this.flag);
+            };
+        }
+
+        @Override
+        public void complete() {
+            this.last = null;
+            if (this.pending.isEmpty()) {
+                return;
+            }
+            final M volume = this.target.get();
+            for (final Map.Entry<Vector3i, BlockSection> entry : this.pending.entrySet()) {
+                final Vector3i origin = entry.getKey();
+                volume.setSection(origin.x(), origin.y(), origin.z(), entry.getValue(), this.flag);
+            }
+            this.pending.clear();
+        }
+    }
+
     private VolumeCollectors() {}
 }
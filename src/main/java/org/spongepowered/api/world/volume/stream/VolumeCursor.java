@@ -0,0 +1,132 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.stream;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * A mutable view of the current element of a {@link VolumeStream}.
+ *
+ * <p>A cursor is a flyweight: the same instance is moved from element to
+ * element and handed to the visitor each time, so a visitor must not retain
+ * it past the call it received it in. Use {@link #toElement()} to keep a
+ * snapshot of the current element.</p>
+ *
+ * @param <V> The type of volume
+ * @param <T> The type of element
+ */
+public final class VolumeCursor<V extends Volume, T> {
+
+    private @Nullable V volume;
+    private @Nullable T element;
+    private int x;
+    private int y;
+    private int z;
+
+    /**
+     * Moves this cursor to the given element.
+     *
+     * @param volume The volume
+     * @param element The element
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @return This cursor, for chaining
+     */
+    public VolumeCursor<V, T> set(final V volume, final T element, final int x, final int y, final int z) {
+        this.volume = volume;
+        this.element = element;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Gets the volume of the current element.
+     *
+     * @return The volume
+     */
+    public V volume() {
+        return Objects.requireNonNull(this.volume, "Cursor has not been positioned");
+    }
+
+    /**
+     * Gets the current element.
+     *
+     * @return The element
+     */
+    public T element() {
+        return Objects.requireNonNull(this.element, "Cursor has not been positioned");
+    }
+
+    public int x() {
+        return this.x;
+    }
+
+    public int y() {
+        return this.y;
+    }
+
+    public int z() {
+        return this.z;
+    }
+
+    /**
+     * Creates a new vector holding the current block position.
+     *
+     * @return The block position
+     */
+    public Vector3i blockPosition() {
+        return new Vector3i(this.x, this.y, this.z);
+    }
+
+    /**
+     * Creates a {@link VolumeElement} holding the current element and
+     * position, which unlike this cursor may be retained.
+     *
+     * @return A snapshot of the current element
+     */
+    public VolumeElement<V, T> toElement() {
+        return VolumeElement.of(this.volume(), this.element(), new Vector3d(this.x, this.y, this.z));
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", VolumeCursor.class.getSimpleName() + "[", "]")
+            .add("element=" + this.element)
+            .add("x=" + this.x)
+            .add("y=" + this.y)
+            .add("z=" + this.z)
+            .toString();
+    }
+
+}
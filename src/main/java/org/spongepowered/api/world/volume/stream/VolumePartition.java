@@ -0,0 +1,239 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.stream;
+
+import org.spongepowered.api.world.storage.ChunkLayout;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * An inclusive, axis-aligned block region that splits along chunk
+ * boundaries.
+ *
+ * <p>Partitions are how {@link VolumeStream#parallel() parallel} streams
+ * divide their work: a partition is {@link #split() split} in two along the
+ * axis spanning the most chunks until the halves are small enough to be
+ * processed by a single fork-join task. Since every split falls on a chunk
+ * boundary, no chunk is ever shared between two partitions that are not
+ * further divided, and each subtask only touches the chunks it owns.</p>
+ */
+public final class VolumePartition {
+
+    private final Vector3i min;
+    private final Vector3i max;
+    private final Vector3i chunkSize;
+
+    private VolumePartition(final Vector3i min, final Vector3i max, final Vector3i chunkSize) {
+        this.min = min;
+        this.max = max;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates a partition covering the region between the given positions,
+     * split along the chunks of the given layout.
+     *
+     * @param min The minimum position, inclusive
+     * @param max The maximum position, inclusive
+     * @param layout The chunk layout
+     * @return The partition
+     */
+    public static VolumePartition of(final Vector3i min, final Vector3i max, final ChunkLayout layout) {
+        return VolumePartition.of(min, max, Objects.requireNonNull(layout, "layout").chunkSize());
+    }
+
+    /**
+     * Creates a partition covering the region between the given positions,
+     * split along chunks of the given size.
+     *
+     * @param min The minimum position, inclusive
+     * @param max The maximum position, inclusive
+     * @param chunkSize The size of a chunk
+     * @return The partition
+     */
+    public static VolumePartition of(final Vector3i min, final Vector3i max, final Vector3i chunkSize) {
+        Objects.requireNonNull(min, "min");
+        Objects.requireNonNull(max, "max");
+        Objects.requireNonNull(chunkSize, "chunkSize");
+        if (min.x() > max.x() || min.y() > max.y() || min.z() > max.z()) {
+            throw new IllegalArgumentException("min " + min + " must not be greater than max " + max);
+        }
+        if (chunkSize.x() <= 0 || chunkSize.y() <= 0 || chunkSize.z() <= 0) {
+            throw new IllegalArgumentException("chunkSize " + chunkSize + " must be positive");
+        }
+        return new VolumePartition(min, max, chunkSize);
+    }
+
+    /**
+     * Gets the minimum position of this partition, inclusive.
+     *
+     * @return The minimum position
+     */
+    public Vector3i min() {
+        return this.min;
+    }
+
+    /**
+     * Gets the maximum position of this partition, inclusive.
+     *
+     * @return The maximum position
+     */
+    public Vector3i max() {
+        return this.max;
+    }
+
+    /**
+     * Gets the number of blocks in this partition.
+     *
+     * @return The number of blocks
+     */
+    public long blockCount() {
+        return (long) (this.max.x() - this.min.x() + 1)
+            * (this.max.y() - this.min.y() + 1)
+            * (this.max.z() - this.min.z() + 1);
+    }
+
+    /**
+     * Gets the number of chunks this partition intersects.
+     *
+     * @return The number of chunks
+     */
+    public long chunkCount() {
+        return (long) this.chunks(0) * this.chunks(1) * this.chunks(2);
+    }
+
+    /**
+     * Splits this partition in two at the chunk boundary closest to the
+     * middle of the axis spanning the most chunks.
+     *
+     * <p>The lower half comes first. If this partition lies within a single
+     * chunk, it can't be split and an empty list is returned.</p>
+     *
+     * @return The two halves, or an empty list
+     */
+    public List<VolumePartition> split() {
+        int axis = -1;
+        int most = 1;
+        // Prefer the horizontal axes, as that is how chunks are stored
+        for (final int candidate : new int[] {0, 2, 1}) {
+            final int chunks = this.chunks(candidate);
+            if (chunks > most) {
+                axis = candidate;
+                most = chunks;
+            }
+        }
+        if (axis == -1) {
+            return List.of();
+        }
+        final int size = VolumePartition.component(this.chunkSize, axis);
+        final int boundary = (Math.floorDiv(VolumePartition.component(this.min, axis), size) + most / 2) * size;
+        return List.of(
+            new VolumePartition(this.min, VolumePartition.with(this.max, axis, boundary - 1), this.chunkSize),
+            new VolumePartition(VolumePartition.with(this.min, axis, boundary), this.max, this.chunkSize)
+        );
+    }
+
+    /**
+     * Divides this partition into one partition per chunk it intersects,
+     * ordered by x, then z, then y.
+     *
+     * @return The per-chunk partitions
+     */
+    public List<VolumePartition> chunks() {
+        final List<VolumePartition> chunks = new ArrayList<>((int) Math.min(Integer.MAX_VALUE, this.chunkCount()));
+        final int sx = this.chunkSize.x();
+        final int sy = this.chunkSize.y();
+        final int sz = this.chunkSize.z();
+        for (int y = this.min.y(); y <= this.max.y(); y = (Math.floorDiv(y, sy) + 1) * sy) {
+            final int maxY = Math.min(this.max.y(), (Math.floorDiv(y, sy) + 1) * sy - 1);
+            for (int z = this.min.z(); z <= this.max.z(); z = (Math.floorDiv(z, sz) + 1) * sz) {
+                final int maxZ = Math.min(this.max.z(), (Math.floorDiv(z, sz) + 1) * sz - 1);
+                for (int x = this.min.x(); x <= this.max.x(); x = (Math.floorDiv(x, sx) + 1) * sx) {
+                    final int maxX = Math.min(this.max.x(), (Math.floorDiv(x, sx) + 1) * sx - 1);
+                    chunks.add(new VolumePartition(new Vector3i(x, y, z), new Vector3i(maxX, maxY, maxZ), this.chunkSize));
+                }
+            }
+        }
+        return chunks;
+    }
+
+    private int chunks(final int axis) {
+        final int size = VolumePartition.component(this.chunkSize, axis);
+        return Math.floorDiv(VolumePartition.component(this.max, axis), size) - Math.floorDiv(VolumePartition.component(this.min, axis), size) + 1;
+    }
+
+    private static int component(final Vector3i vector, final int axis) {
+        switch (axis) {
+            case 0:
+                return vector.x();
+            case 1:
+                return vector.y();
+            default:
+                return vector.z();
+        }
+    }
+
+    private static Vector3i with(final Vector3i vector, final int axis, final int value) {
+        switch (axis) {
+            case 0:
+                return new Vector3i(value, vector.y(), vector.z());
+            case 1:
+                return new Vector3i(vector.x(), value, vector.z());
+            default:
+                return new Vector3i(vector.x(), vector.y(), value);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        final VolumePartition that = (VolumePartition) o;
+        return this.min.equals(that.min) && this.max.equals(that.max) && this.chunkSize.equals(that.chunkSize);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.min, this.max, this.chunkSize);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", VolumePartition.class.getSimpleName() + "[", "]")
+            .add("min=" + this.min)
+            .add("max=" + this.max)
+            .add("chunkSize=" + this.chunkSize)
+            .toString();
+    }
+
+}
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.world.volume.MutableVolume;
 import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.math.GenericMath;
 import org.spongepowered.math.vector.Vector3d;
 
 import java.util.Optional;
@@ -50,6 +51,8 @@
  *     <li>{@link #filter(Predicate)}</li>
  *     <li>{@link #map(VolumeMapper) map(VolumeMapper&lt;V, T&gt;)}</li>
  *     <li>{@link #map(Function) map(Function&lt;VolumeElement&lt;V, T&gt;&gt;)}</li>
+ *     <li>{@link #parallel()}</li>
+ *     <li>{@link #sequential()}</li>
  * </ul>
  * <p><strong>Terminal Operations</strong>
  * <p>These operations are consuming the entirety of the stream, after all
@@ -70,6 +73,10 @@ default VolumeStream<V, T> filter(final Predicate<VolumeElement<V, ? super T>> p
         return this.filter((volume, element, x, y, z) -> predicate.test(VolumeElement.of(volume, element, new Vector3d(x, y, z))));
     }
 
+    default VolumeStream<V, T> filter(final ElementPredicate<? super T> predicate) {
+        return this.filter((volume, element, x, y, z) -> predicate.test(element.get(), GenericMath.floor(x), GenericMath.floor(y), GenericMath.floor(z)));
+    }
+
     <Out> VolumeStream<V, Out> map(VolumeMapper<V, T, Out> mapper);
 
     default <Out> VolumeStream<V, Out> map(final Function<VolumeElement<V, T>, ? extends Out> mapper) {
@@ -84,6 +91,55 @@ default VolumeStream<V, Optional<? extends T>> flatMap(final Function<VolumeElem
 
     VolumeStream<V, T> transform(VolumePositionTranslator<V, T> transformer);
 
+    /**
+     * Returns an equivalent stream whose terminal operations are executed in
+     * parallel.
+     *
+     * <p>The streamed region is divided into {@link VolumePartition partitions}
+     * along the boundaries of the volume's chunk layout, each processed as a
+     * fork-join subtask. Results of the subtasks are merged as follows:</p>
+     * <ul>
+     *     <li>{@link #count()} returns the sum of all partitions.</li>
+     *     <li>{@link #anyMatch(VolumePredicate)}, {@link #allMatch(VolumePredicate)}
+     *     and {@link #noneMatch(VolumePredicate)} return the same result as
+     *     a sequential stream, and stop every subtask once it is known.</li>
+     *     <li>{@link #findAny()} returns the first element found by any
+     *     subtask, which may differ between invocations.</li>
+     *     <li>{@link #findFirst()} returns the same element as a sequential
+     *     stream would, at the cost of waiting on preceding partitions.</li>
+     *     <li>{@link #forEach(VolumeConsumer)} calls the visitor concurrently
+     *     and in no particular order, so it must be thread-safe.</li>
+     *     <li>{@link #apply(VolumeCollector)} and
+     *     {@link #applyUntil(VolumeCollector, Predicate)} only read elements in
+     *     parallel. Elements are gathered per chunk and applied to the target
+     *     on the thread owning it, one chunk at a time, in the same order as a
+     *     sequential stream.</li>
+     * </ul>
+     *
+     * <p>Predicates, mappers and translators of intermediary operations may
+     * be called from several threads at once.</p>
+     *
+     * @return A parallel stream
+     */
+    VolumeStream<V, T> parallel();
+
+    /**
+     * Returns an equivalent stream whose terminal operations are executed
+     * sequentially on the calling thread.
+     *
+     * @return A sequential stream
+     */
+    VolumeStream<V, T> sequential();
+
+    /**
+     * Gets whether terminal operations of this stream are executed in
+     * parallel.
+     *
+     * @return True if this stream is parallel
+     * @see #parallel()
+     */
+    boolean isParallel();
+
     long count();
 
     boolean allMatch(VolumePredicate<V, ? super T> predicate);
@@ -92,28 +148,66 @@ default boolean allMatch(final Predicate<VolumeElement<V, ? super T>> predicate)
         return this.allMatch((volume, element, x, y, z) -> predicate.test(VolumeElement.of(volume, element, new Vector3d(x, y, z))));
     }
 
+    default boolean allMatch(final ElementPredicate<? super T> predicate) {
+        return this.allMatch((volume, element, x, y, z) -> predicate.test(element.get(), GenericMath.floor(x), GenericMath.floor(y), GenericMath.floor(z)));
+    }
+
     boolean noneMatch(VolumePredicate<V, ? super T> predicate);
 
     default boolean noneMatch(final Predicate<VolumeElement<V, ? super T>> predicate) {
         return this.noneMatch((volume, element, x, y, z) -> predicate.test(VolumeElement.of(volume, element, new Vector3d(x, y, z))));
     }
 
+    default boolean noneMatch(final ElementPredicate<? super T> predicate) {
+        return this.noneMatch((volume, element, x, y, z) -> predicate.test(element.get(), GenericMath.floor(x), GenericMath.floor(y), GenericMath.floor(z)));
+    }
+
     boolean anyMatch(VolumePredicate<V, ? super T> predicate);
 
     default boolean anyMatch(final Predicate<VolumeElement<V, ? super T>> predicate) {
         return this.anyMatch((volume, element, x, y, z) -> predicate.test(VolumeElement.of(volume, element, new Vector3d(x, y, z))));
     }
 
+    default boolean anyMatch(final ElementPredicate<? super T> predicate) {
+        return this.anyMatch((volume, element, x, y, z) -> predicate.test(element.get(), GenericMath.floor(x), GenericMath.floor(y), GenericMath.floor(z)));
+    }
+
     Optional<VolumeElement<V, T>> findFirst();
 
     Optional<VolumeElement<V, T>> findAny();
 
     Stream<VolumeElement<V, T>> toStream();
 
+    /**
+     * Applies every element of this stream through the given collector, then
+     * {@link VolumeCollector#complete() completes} the collector so that it
+     * writes anything it buffered.
+     *
+     * @param collector The collector
+     * @param <W> The type of target volume
+     */
     default <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> collector) {
         this.applyUntil(collector, (result) -> true);
+        collector.complete();
     }
 
+    /**
+     * Applies the elements of this stream through the given collector for as
+     * long as the predicate accepts the result of each application.
+     *
+     * <p>Once the predicate rejects a result, no further element is applied.
+     * The collector is never {@link VolumeCollector#complete() completed}, so
+     * elements it buffered instead of writing them, such as the partially
+     * covered sections of
+     * {@link VolumeCollectors#applyBlocksBySection(org.spongepowered.api.world.volume.block.PhysicsAwareMutableBlockVolume, org.spongepowered.api.world.BlockChangeFlag)},
+     * are not written either. Callers may complete the collector themselves
+     * if the predicate accepted every result.</p>
+     *
+     * @param collector The collector
+     * @param predicate The predicate tested against each result
+     * @param <W> The type of target volume
+     * @param <R> The type of result
+     */
     <W extends MutableVolume, R> void applyUntil(VolumeCollector<W, T, R> collector, Predicate<R> predicate);
 
     void forEach(VolumeConsumer<V, T> visitor);
@@ -122,4 +216,30 @@ default void forEach(final Consumer<VolumeElement<V, T>> consumer) {
         this.forEach((volume, type, x, y, z) -> consumer.accept(VolumeElement.of(volume, type, new Vector3d(x, y, z))));
     }
 
+    default void forEach(final ElementConsumer<? super T> consumer) {
+        this.forEach((volume, type, x, y, z) -> consumer.accept(type, GenericMath.floor(x), GenericMath.floor(y), GenericMath.floor(z)));
+    }
+
+    /**
+     * Visits every element of this stream through a single, reused
+     * {@link VolumeCursor}.
+     *
+     * <p>The cursor is moved to each element before the consumer is called
+     * and must not be retained. For {@link #isParallel() parallel} streams,
+     * every thread uses its own cursor.</p>
+     *
+     * @param consumer The consumer of the cursor
+     */
+    default void forEachCursor(final Consumer<? super VolumeCursor<V, T>> consumer) {
+        if (this.isParallel()) {
+            final ThreadLocal<VolumeCursor<V, T>> cursors = ThreadLocal.withInitial(VolumeCursor::new);
+            this.forEach((volume, type, x, y, z) ->
+                consumer.accept(cursors.get().set(volume, type, GenericMath.floor(x), GenericMath.floor(y), GenericMath.floor(z))));
+        } else {
+            final VolumeCursor<V, T> cursor = new VolumeCursor<>();
+            this.forEach((volume, type, x, y, z) ->
+                consumer.accept(cursor.set(volume, type, GenericMath.floor(x), GenericMath.floor(y), GenericMath.floor(z))));
+        }
+    }
+
 }
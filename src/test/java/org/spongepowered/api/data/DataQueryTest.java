@@ -152,4 +152,36 @@ void testEquals() {
         Assertions.assertNotEquals(query1, nonEqual);
     }
 
+    /**
+     * Method: popFirst()
+     */
+    @Test
+    void testPopFirst() {
+        final DataQuery prePopped = DataQuery.of("this", "test", "query");
+        Assertions.assertEquals(DataQuery.of("test", "query"), prePopped.popFirst());
+        Assertions.assertEquals(DataQuery.of(), DataQuery.of("single").popFirst());
+    }
+
+    /**
+     * Method: hashCode()
+     */
+    @Test
+    void testHashCode() {
+        final DataQuery query = DataQuery.of("this", "test");
+        final DataQuery built = DataQuery.of("this").then("test");
+        Assertions.assertEquals(query.hashCode(), built.hashCode());
+        Assertions.assertEquals(query.hashCode(), query.hashCode());
+    }
+
+    /**
+     * Method: intern()
+     */
+    @Test
+    void testIntern() {
+        final DataQuery first = DataQuery.of("intern", "test").intern();
+        final DataQuery second = DataQuery.of('.', "intern.test").intern();
+        Assertions.assertSame(first, second);
+        Assertions.assertNotSame(first, DataQuery.of("intern", "other").intern());
+    }
+
 }
@@ -111,4 +111,29 @@ void testListedArray() {
         Assertions.assertEquals(stringList, fooList);
     }
 
+    @Test
+    void testRepeatedQueries() {
+        final Cause cause = Cause.builder().append("foo").append(1).append("bar").append(2L).build(EventContext.empty());
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertEquals(Optional.of("foo"), cause.first(String.class));
+            Assertions.assertEquals(Optional.of("bar"), cause.last(String.class));
+            Assertions.assertEquals(List.of(1, 2L), cause.allOf(Number.class));
+            Assertions.assertEquals(List.of("foo", "bar"), cause.noneOf(Number.class));
+            Assertions.assertTrue(cause.containsType(Long.class));
+            Assertions.assertFalse(cause.containsType(Double.class));
+        }
+    }
+
+    @Test
+    void testQueriesOnDerivedCause() {
+        final Cause old = Cause.builder().append("foo").append(1).build(EventContext.empty());
+        Assertions.assertEquals(List.of("foo"), old.allOf(String.class));
+        Assertions.assertEquals(List.of(1), old.allOf(Integer.class));
+        final Cause newCause = old.with("bar", 2);
+        Assertions.assertEquals(List.of("foo", "bar"), newCause.allOf(String.class));
+        Assertions.assertEquals(Optional.of(2), newCause.last(Integer.class));
+        Assertions.assertEquals(Optional.of("bar"), newCause.after(Integer.class));
+        Assertions.assertEquals(List.of("foo"), old.allOf(String.class));
+    }
+
 }
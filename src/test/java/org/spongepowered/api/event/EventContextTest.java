@@ -0,0 +1,213 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.ResourceKey;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+class EventContextTest {
+
+    private static final Key<String> NAME = new Key<>(0, "name", String.class);
+    private static final Key<Integer> COUNT = new Key<>(3, "count", Integer.class);
+    private static final Key<String> FAR = new Key<>(40, "far", String.class);
+    private static final Key<String> UNUSED = new Key<>(7, "unused", String.class);
+    private static final Key<String> BEYOND = new Key<>(100, "beyond", String.class);
+    // Shares its ordinal with NAME
+    private static final Key<String> ALIAS = new Key<>(0, "alias", String.class);
+    private static final Key<String> UNORDERED = new Key<>(-1, "unordered", String.class);
+
+    @Test
+    void testMatchesMap() {
+        final Map<EventContextKey<?>, Object> entries = new HashMap<>();
+        entries.put(EventContextTest.NAME, "foo");
+        entries.put(EventContextTest.COUNT, 5);
+        entries.put(EventContextTest.FAR, "bar");
+
+        final EventContext context = EventContext.builder()
+            .add(EventContextTest.FAR, "bar")
+            .add(EventContextTest.NAME, "foo")
+            .add(EventContextTest.COUNT, 5)
+            .build();
+        final EventContext reordered = EventContext.builder()
+            .add(EventContextTest.COUNT, 5)
+            .add(EventContextTest.NAME, "foo")
+            .add(EventContextTest.FAR, "bar")
+            .build();
+
+        Assertions.assertEquals(entries, context.asMap());
+        Assertions.assertEquals(entries.keySet(), context.keySet());
+        Assertions.assertEquals(entries.hashCode(), context.hashCode());
+        Assertions.assertEquals(context, reordered);
+        Assertions.assertEquals(context.hashCode(), reordered.hashCode());
+        Assertions.assertEquals(context, EventContext.of(entries));
+        Assertions.assertEquals(Map.of().hashCode(), EventContext.empty().hashCode());
+        Assertions.assertEquals(Map.of(), EventContext.empty().asMap());
+
+        final EventContext different = EventContext.builder()
+            .add(EventContextTest.NAME, "foo")
+            .add(EventContextTest.COUNT, 6)
+            .add(EventContextTest.FAR, "bar")
+            .build();
+        Assertions.assertNotEquals(context, different);
+        Assertions.assertNotEquals(different, context);
+    }
+
+    @Test
+    void testMissingKeys() {
+        final EventContext context = EventContext.builder().add(EventContextTest.FAR, "bar").build();
+
+        Assertions.assertEquals(Optional.of("bar"), context.get(EventContextTest.FAR));
+        // Below the highest ordinal in use
+        Assertions.assertEquals(Optional.empty(), context.get(EventContextTest.NAME));
+        Assertions.assertFalse(context.containsKey(EventContextTest.UNUSED));
+        // Beyond the highest ordinal in use
+        Assertions.assertEquals(Optional.empty(), context.get(EventContextTest.BEYOND));
+        Assertions.assertFalse(context.containsKey(EventContextTest.BEYOND));
+        Assertions.assertThrows(NoSuchElementException.class, () -> context.require(EventContextTest.BEYOND));
+        Assertions.assertEquals(Map.of(EventContextTest.FAR, "bar"), context.asMap());
+
+        final EventContext empty = EventContext.empty();
+        Assertions.assertEquals(Optional.empty(), empty.get(EventContextTest.NAME));
+        Assertions.assertThrows(NoSuchElementException.class, () -> empty.require(EventContextTest.NAME));
+
+        // A context is never equal to one holding a subset of its entries
+        final EventContext more = EventContext.builder().add(EventContextTest.FAR, "bar").add(EventContextTest.NAME, "foo").build();
+        Assertions.assertNotEquals(context, more);
+        Assertions.assertNotEquals(more, context);
+        Assertions.assertNotEquals(empty, context);
+        Assertions.assertNotEquals(context, empty);
+    }
+
+    @Test
+    void testBuilderFrom() {
+        final EventContext base = EventContext.builder().add(EventContextTest.NAME, "foo").add(EventContextTest.FAR, "bar").build();
+        final EventContext extended = EventContext.builder().from(base).add(EventContextTest.COUNT, 1).build();
+
+        Assertions.assertEquals(Map.of(EventContextTest.NAME, "foo", EventContextTest.FAR, "bar", EventContextTest.COUNT, 1), extended.asMap());
+        Assertions.assertEquals(Map.of(EventContextTest.NAME, "foo", EventContextTest.FAR, "bar"), base.asMap());
+        Assertions.assertEquals(base, EventContext.builder().from(base).build());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EventContext.builder().from(base).add(EventContextTest.NAME, "baz"));
+    }
+
+    @Test
+    void testBuilderReset() {
+        final EventContext.Builder builder = EventContext.builder().add(EventContextTest.NAME, "foo").add(EventContextTest.FAR, "bar");
+        final EventContext built = builder.build();
+
+        Assertions.assertSame(EventContext.empty(), builder.reset().build());
+        // Built contexts are not affected by later changes to the builder
+        Assertions.assertEquals(Map.of(EventContextTest.NAME, "foo", EventContextTest.FAR, "bar"), built.asMap());
+
+        final EventContext reused = builder.add(EventContextTest.NAME, "baz").build();
+        Assertions.assertEquals(Map.of(EventContextTest.NAME, "baz"), reused.asMap());
+        Assertions.assertEquals(Optional.empty(), reused.get(EventContextTest.FAR));
+        Assertions.assertEquals(Optional.of("foo"), built.get(EventContextTest.NAME));
+    }
+
+    @Test
+    void testSharedOrdinal() {
+        final EventContext context = EventContext.builder()
+            .add(EventContextTest.NAME, "foo")
+            .add(EventContextTest.ALIAS, "bar")
+            .add(EventContextTest.UNORDERED, "baz")
+            .build();
+
+        Assertions.assertEquals(Optional.of("foo"), context.get(EventContextTest.NAME));
+        Assertions.assertEquals(Optional.of("bar"), context.get(EventContextTest.ALIAS));
+        Assertions.assertEquals(Optional.of("baz"), context.get(EventContextTest.UNORDERED));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EventContext.builder().from(context).add(EventContextTest.ALIAS, "qux"));
+
+        final Map<EventContextKey<?>, Object> entries = Map.of(EventContextTest.NAME, "foo", EventContextTest.ALIAS, "bar",
+            EventContextTest.UNORDERED, "baz");
+        Assertions.assertEquals(entries, context.asMap());
+        Assertions.assertEquals(entries.hashCode(), context.hashCode());
+        Assertions.assertEquals(context, EventContext.of(entries));
+        Assertions.assertEquals(context, EventContext.builder().from(context).build());
+
+        // Whichever key claims the slot first, the other is kept apart
+        final EventContext reversed = EventContext.builder()
+            .add(EventContextTest.UNORDERED, "baz")
+            .add(EventContextTest.ALIAS, "bar")
+            .add(EventContextTest.NAME, "foo")
+            .build();
+        Assertions.assertEquals(context, reversed);
+        Assertions.assertEquals(reversed, context);
+
+        final EventContext alias = EventContext.builder().add(EventContextTest.ALIAS, "foo").build();
+        Assertions.assertEquals(Optional.empty(), alias.get(EventContextTest.NAME));
+        Assertions.assertNotEquals(alias, EventContext.builder().add(EventContextTest.NAME, "foo").build());
+    }
+
+    private static final class Key<T> implements EventContextKey<T> {
+
+        private final int ordinal;
+        private final String name;
+        private final Class<T> type;
+
+        Key(final int ordinal, final String name, final Class<T> type) {
+            this.ordinal = ordinal;
+            this.name = name;
+            this.type = type;
+        }
+
+        @Override
+        public ResourceKey key() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Type allowedType() {
+            return this.type;
+        }
+
+        @Override
+        public boolean isInstance(final Object value) {
+            return this.type.isInstance(value);
+        }
+
+        @Override
+        public T cast(final Object value) {
+            return this.type.cast(value);
+        }
+
+        @Override
+        public int ordinal() {
+            return this.ordinal;
+        }
+
+        @Override
+        public String toString() {
+            return this.name;
+        }
+    }
+
+}
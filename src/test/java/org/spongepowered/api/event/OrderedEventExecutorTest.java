@@ -0,0 +1,122 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+
+class OrderedEventExecutorTest {
+
+    @Test
+    void testOrdering() {
+        final Queue<Runnable> pool = new ArrayDeque<>();
+        final OrderedEventExecutor executor = new OrderedEventExecutor(pool::add, 256, OrderedEventExecutor.Backpressure.REJECT);
+        final List<Integer> seen = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final int value = i;
+            executor.execute(() -> seen.add(value));
+        }
+        // Only one drain is scheduled on the backing executor at a time
+        Assertions.assertEquals(1, pool.size());
+        while (!pool.isEmpty()) {
+            pool.poll().run();
+        }
+        Assertions.assertEquals(200, seen.size());
+        for (int i = 0; i < 200; i++) {
+            Assertions.assertEquals(i, seen.get(i));
+        }
+        Assertions.assertEquals(0, executor.queued());
+    }
+
+    @Test
+    void testBackpressure() {
+        final Queue<Runnable> pool = new ArrayDeque<>();
+        final OrderedEventExecutor rejecting = new OrderedEventExecutor(pool::add, 2, OrderedEventExecutor.Backpressure.REJECT);
+        rejecting.execute(() -> { });
+        rejecting.execute(() -> { });
+        Assertions.assertThrows(RejectedExecutionException.class, () -> rejecting.execute(() -> { }));
+
+        final OrderedEventExecutor discarding = new OrderedEventExecutor(pool::add, 2, OrderedEventExecutor.Backpressure.DISCARD);
+        discarding.execute(() -> { });
+        discarding.execute(() -> { });
+        discarding.execute(() -> { });
+        Assertions.assertEquals(2, discarding.queued());
+        Assertions.assertEquals(1, discarding.discarded());
+    }
+
+    @Test
+    void testFailingTask() {
+        final Queue<Runnable> pool = new ArrayDeque<>();
+        final OrderedEventExecutor executor = new OrderedEventExecutor(pool::add, 8, OrderedEventExecutor.Backpressure.REJECT);
+        final List<String> seen = new ArrayList<>();
+        final Thread thread = Thread.currentThread();
+        final Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler((t, e) -> seen.add(e.getMessage()));
+        try {
+            executor.execute(() -> {
+                throw new IllegalStateException("failed");
+            });
+            executor.execute(() -> seen.add("next"));
+            pool.poll().run();
+        } finally {
+            thread.setUncaughtExceptionHandler(handler);
+        }
+        Assertions.assertEquals(List.of("failed", "next"), seen);
+    }
+
+    @Test
+    void testFailingTaskError() {
+        final Queue<Runnable> pool = new ArrayDeque<>();
+        final OrderedEventExecutor executor = new OrderedEventExecutor(pool::add, 8, OrderedEventExecutor.Backpressure.REJECT);
+        final List<String> seen = new ArrayList<>();
+        executor.execute(() -> {
+            throw new AssertionError("failed");
+        });
+        executor.execute(() -> seen.add("next"));
+        Assertions.assertThrows(AssertionError.class, () -> pool.poll().run());
+        // The remaining task was handed to a new drain
+        Assertions.assertEquals(1, pool.size());
+        pool.poll().run();
+        Assertions.assertEquals(List.of("next"), seen);
+
+        // Once idle again, new tasks schedule a new drain
+        executor.execute(() -> {
+            throw new StackOverflowError();
+        });
+        Assertions.assertThrows(StackOverflowError.class, () -> pool.poll().run());
+        Assertions.assertTrue(pool.isEmpty());
+        executor.execute(() -> seen.add("after"));
+        Assertions.assertEquals(1, pool.size());
+        pool.poll().run();
+        Assertions.assertEquals(List.of("next", "after"), seen);
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+class SimpleEventListenerIndexTest {
+
+    @Test
+    void testSubtypeResolution() {
+        final SimpleEventListenerIndex index = new SimpleEventListenerIndex();
+        final Registration base = new Registration(BaseEvent.class, Order.DEFAULT);
+        final Registration child = new Registration(ChildEvent.class, Order.DEFAULT);
+        index.register(base);
+        index.register(child);
+
+        Assertions.assertEquals(List.of(base), index.listeners(BaseEvent.class));
+        Assertions.assertEquals(List.of(base, child), index.listeners(ChildEvent.class));
+        Assertions.assertTrue(index.listeners(OtherEvent.class).isEmpty());
+        Assertions.assertFalse(index.hasListeners(OtherEvent.class));
+        Assertions.assertTrue(index.hasListeners(ChildEvent.class));
+    }
+
+    @Test
+    void testOrdering() {
+        final SimpleEventListenerIndex index = new SimpleEventListenerIndex();
+        final Registration late = new Registration(BaseEvent.class, Order.LATE);
+        final Registration first = new Registration(ChildEvent.class, Order.FIRST);
+        final Registration lateChild = new Registration(ChildEvent.class, Order.LATE);
+        final Registration pre = new Registration(Event.class, Order.PRE);
+        index.registerAll(List.of(late, first, lateChild, pre));
+
+        Assertions.assertEquals(List.of(pre, first, late, lateChild), index.listeners(ChildEvent.class));
+    }
+
+    @Test
+    void testCopyOnWrite() {
+        final SimpleEventListenerIndex index = new SimpleEventListenerIndex();
+        Assertions.assertFalse(index.hasListeners(BaseEvent.class));
+
+        final Registration base = new Registration(BaseEvent.class, Order.DEFAULT);
+        index.register(base);
+        final List<EventListenerRegistration<?>> before = index.listeners(BaseEvent.class);
+        Assertions.assertEquals(List.of(base), before);
+
+        final Registration other = new Registration(BaseEvent.class, Order.DEFAULT);
+        index.register(other);
+        Assertions.assertEquals(List.of(base), before);
+        Assertions.assertEquals(List.of(base, other), index.listeners(BaseEvent.class));
+
+        Assertions.assertTrue(index.unregister(registration -> registration == base));
+        Assertions.assertFalse(index.unregister(registration -> registration == base));
+        Assertions.assertEquals(List.of(other), index.listeners(BaseEvent.class));
+        Assertions.assertEquals(List.of(other), index.registrations());
+    }
+
+    @Test
+    void testIsListenedTo() {
+        final SimpleEventListenerIndex index = new SimpleEventListenerIndex();
+        final long initial = index.version();
+        index.register(new Registration(ChildEvent.class, Order.DEFAULT));
+
+        Assertions.assertNotEquals(initial, index.version());
+        Assertions.assertTrue(index.isListenedTo(ChildEvent.class));
+        Assertions.assertTrue(index.isListenedTo(BaseEvent.class));
+        Assertions.assertFalse(index.hasListeners(BaseEvent.class));
+        Assertions.assertFalse(index.isListenedTo(OtherEvent.class));
+    }
+
+    @Test
+    void testGate() {
+        final SimpleEventListenerIndex index = new SimpleEventListenerIndex();
+        final EventTypeGate gate = new EventTypeGate(index, BaseEvent.class);
+        Assertions.assertFalse(gate.isOpen());
+
+        final Registration base = new Registration(BaseEvent.class, Order.DEFAULT);
+        index.register(base);
+        Assertions.assertTrue(gate.isOpen());
+        Assertions.assertTrue(gate.isOpen());
+
+        index.unregister(registration -> registration == base);
+        Assertions.assertFalse(gate.isOpen());
+    }
+
+    interface BaseEvent extends Event {
+    }
+
+    interface ChildEvent extends BaseEvent {
+    }
+
+    interface OtherEvent extends Event {
+    }
+
+    private static final class Registration implements EventListenerRegistration<Event> {
+
+        private final Class<? extends Event> eventType;
+        private final Order order;
+
+        Registration(final Class<? extends Event> eventType, final Order order) {
+            this.eventType = eventType;
+            this.order = order;
+        }
+
+        @Override
+        public Type eventType() {
+            return this.eventType;
+        }
+
+        @Override
+        public PluginContainer plugin() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Order order() {
+            return this.order;
+        }
+
+        @Override
+        public boolean beforeModifications() {
+            return false;
+        }
+
+        @Override
+        public boolean async() {
+            return false;
+        }
+
+        @Override
+        public EventListener<? super Event> listener() {
+            return event -> { };
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network.channel.sync;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.network.channel.ChannelIOException;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class StateDeltaTest {
+
+    @Test
+    public void testKeyframe() {
+        final byte[] state = {1, 2, 3, 0, 0, 4};
+        final byte[] delta = StateDelta.encode(new byte[0], state);
+        Assertions.assertArrayEquals(state, StateDelta.apply(new byte[0], delta));
+    }
+
+    @Test
+    public void testUnchanged() {
+        final byte[] state = new byte[256];
+        Arrays.fill(state, (byte) 7);
+        final byte[] delta = StateDelta.encode(state, state.clone());
+        // Only the length remains
+        Assertions.assertEquals(2, delta.length);
+        Assertions.assertArrayEquals(state, StateDelta.apply(state, delta));
+    }
+
+    @Test
+    public void testSmallChange() {
+        final byte[] base = new byte[1024];
+        new Random(42).nextBytes(base);
+        final byte[] state = base.clone();
+        state[100]++;
+        state[101]--;
+        state[900] = 0;
+        final byte[] delta = StateDelta.encode(base, state);
+        Assertions.assertTrue(delta.length < 16);
+        Assertions.assertArrayEquals(state, StateDelta.apply(base, delta));
+    }
+
+    @Test
+    public void testResize() {
+        final Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            final byte[] base = new byte[random.nextInt(64)];
+            random.nextBytes(base);
+            final byte[] state = Arrays.copyOf(base, random.nextInt(64));
+            for (int j = 0; j < state.length; j++) {
+                if (random.nextInt(4) == 0) {
+                    state[j] = (byte) random.nextInt();
+                }
+            }
+            Assertions.assertArrayEquals(state, StateDelta.apply(base, StateDelta.encode(base, state)));
+        }
+    }
+
+    @Test
+    public void testMalformed() {
+        // Claims a changed run longer than the state
+        final byte[] delta = {2, 0, 5, 1, 2};
+        Assertions.assertThrows(ChannelIOException.class, () -> StateDelta.apply(new byte[0], delta));
+        Assertions.assertThrows(ChannelIOException.class, () -> StateDelta.apply(new byte[0], new byte[] {(byte) 0x80}));
+        // Claims a state of Integer.MAX_VALUE bytes
+        final byte[] huge = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        Assertions.assertThrows(ChannelIOException.class, () -> StateDelta.apply(new byte[4], huge));
+        // Claims more bytes past the base than the delta carries
+        Assertions.assertThrows(ChannelIOException.class, () -> StateDelta.apply(new byte[2], new byte[] {6, 2, 1, 9}));
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BlockPositionsTest {
+
+    @Test
+    public void testRoundTrip() {
+        final int[][] positions = {
+            {0, 0, 0},
+            {1, -1, 1},
+            {-30_000_000, -2048, 30_000_000},
+            {33_554_431, 2047, -33_554_432},
+            {12, -64, -7},
+        };
+        for (final int[] position : positions) {
+            final long packed = BlockPositions.pack(position[0], position[1], position[2]);
+            Assertions.assertEquals(position[0], BlockPositions.x(packed));
+            Assertions.assertEquals(position[1], BlockPositions.y(packed));
+            Assertions.assertEquals(position[2], BlockPositions.z(packed));
+        }
+    }
+
+    @Test
+    public void testOffset() {
+        final long packed = BlockPositions.pack(-1, 64, 15);
+        final long offset = BlockPositions.offset(packed, 1, -65, 1);
+        Assertions.assertEquals(BlockPositions.pack(0, -1, 16), offset);
+    }
+
+}
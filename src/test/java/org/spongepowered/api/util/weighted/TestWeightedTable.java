@@ -27,7 +27,12 @@
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
 public class TestWeightedTable {
 
@@ -41,4 +46,131 @@ public void test() {
         Assertions.assertEquals(this, results.get(0));
     }
 
+    @Test
+    public void testCompiled() {
+        final RiggedRandom rand = new RiggedRandom();
+        final WeightedTable<Object> table = new WeightedTable<>();
+        table.add(new WeightedObject<>(this, 4));
+        final CompiledWeightedTable<Object> compiled = table.compile();
+        rand.enqueue(0);
+        final List<Object> results = compiled.get(rand);
+        Assertions.assertEquals(this, results.get(0));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> compiled.add("foo", 1));
+    }
+
+    @Test
+    public void testCompiledDistribution() {
+        final WeightedTable<String> table = new WeightedTable<>();
+        table.add("rare", 1);
+        table.add("common", 3);
+        table.add("never", 0);
+        final WeightedTable<String> nested = new WeightedTable<>();
+        nested.add("nested", 1);
+        table.add(new NestedTableEntry<>(4, nested));
+        final CompiledWeightedTable<String> compiled = table.compile();
+        nested.add("added later", 100);
+
+        final Random rand = new Random(42L);
+        final Map<String, Integer> counts = new HashMap<>();
+        final int rolls = 80000;
+        for (int i = 0; i < rolls; i++) {
+            for (final String result : compiled.get(rand)) {
+                counts.merge(result, 1, Integer::sum);
+            }
+        }
+        Assertions.assertEquals(Set.of("rare", "common", "nested"), counts.keySet());
+        Assertions.assertEquals(rolls / 8.0, counts.get("rare"), rolls * 0.01);
+        Assertions.assertEquals(rolls * 3 / 8.0, counts.get("common"), rolls * 0.01);
+        Assertions.assertEquals(rolls / 2.0, counts.get("nested"), rolls * 0.01);
+    }
+
+    @Test
+    public void testCompiledEmpty() {
+        Assertions.assertTrue(new WeightedTable<>().compile().get(new RiggedRandom()).isEmpty());
+    }
+
+    @Test
+    public void testCompiledZeroWeights() {
+        final WeightedTable<String> table = new WeightedTable<>();
+        table.add("first", 0);
+        table.add("second", 0);
+        final CompiledWeightedTable<String> compiled = table.compile();
+        for (final double roll : new double[] {0, 0.5, 0.99}) {
+            final RiggedRandom rand = new RiggedRandom();
+            rand.enqueue(roll);
+            rand.enqueue(roll);
+            Assertions.assertEquals(table.get(rand), compiled.get(rand));
+        }
+        Assertions.assertEquals(List.of("first"), compiled.get(new Random()));
+    }
+
+    @Test
+    public void testGetIntoCollection() {
+        final RiggedRandom rand = new RiggedRandom();
+        final WeightedTable<Object> table = new WeightedTable<>(2);
+        table.add(new WeightedObject<>(this, 4));
+        final List<Object> results = new ArrayList<>();
+        results.add("existing");
+        rand.enqueue(0);
+        rand.enqueue(0);
+        table.get(rand, results);
+        Assertions.assertEquals(List.of("existing", this, this), results);
+    }
+
+    @Test
+    public void testGetIntoArray() {
+        final RiggedRandom rand = new RiggedRandom();
+        final WeightedTable<Object> table = new WeightedTable<>(2);
+        table.add(new WeightedObject<>(this, 4));
+        final Object[] results = {"existing", null, null, null};
+        rand.enqueue(0);
+        rand.enqueue(0);
+        Assertions.assertEquals(2, table.get(rand, results, 1));
+        Assertions.assertArrayEquals(new Object[] {"existing", this, this, null}, results);
+
+        final ChanceTable<Object> chance = new ChanceTable<>(3);
+        chance.add(new WeightedObject<>(this, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> chance.get(new Random(), results, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.get(new Random(), results, 5));
+        Assertions.assertEquals(0, new WeightedTable<>().get(new Random(), results, 4));
+
+        final LootTable<Object> loot = new LootTable<>();
+        loot.addTable(table);
+        loot.addTable(chance);
+        final Object[] pooled = new Object[5];
+        Assertions.assertEquals(5, loot.get(new Random(), pooled, 0));
+        Assertions.assertArrayEquals(new Object[] {this, this, this, this, this}, pooled);
+    }
+
+    @Test
+    public void testSampleMany() {
+        final WeightedTable<String> weighted = new WeightedTable<>(2);
+        weighted.add("weighted", 1);
+        final ChanceTable<String> chance = new ChanceTable<>();
+        chance.add("chance", 1);
+        final LootTable<String> loot = new LootTable<>();
+        loot.addTable(weighted);
+        loot.addTable(chance);
+        loot.addTable(weighted.compile());
+
+        final List<String> results = new ArrayList<>();
+        loot.sampleMany(new Random(42L), 10, results);
+        Assertions.assertEquals(50, results.size());
+        Assertions.assertEquals(40L, results.stream().filter("weighted"::equals).count());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> weighted.sampleMany(new Random(), -1, results));
+    }
+
+    @Test
+    public void testSampleManyOverflow() {
+        final List<String> results = new ArrayList<>();
+        final WeightedTable<String> fixed = new WeightedTable<>(Integer.MAX_VALUE);
+        fixed.add("weighted", 1);
+        Assertions.assertThrows(ArithmeticException.class, () -> fixed.sampleMany(new Random(), 2, results));
+        final WeightedTable<String> variable = new WeightedTable<>(random -> Integer.MAX_VALUE);
+        variable.add("weighted", 1);
+        Assertions.assertThrows(ArithmeticException.class, () -> variable.sampleMany(new Random(), 2, results));
+        Assertions.assertThrows(ArithmeticException.class, () -> variable.compile().sampleMany(new Random(), 2, results));
+        Assertions.assertTrue(results.isEmpty());
+    }
+
 }
@@ -0,0 +1,132 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.volume.biome.BiomeVolume;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+class BiomeDataSectionTest {
+
+    private static final Vector3i SIZE = new Vector3i(20, 18, 33);
+
+    private static int id(final int x, final int y, final int z) {
+        return (x + y * 5 + z * 3) % 150;
+    }
+
+    private static byte[] encode(final Vector3i size) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (int y = 0; y < size.y(); y++) {
+            for (int z = 0; z < size.z(); z++) {
+                for (int x = 0; x < size.x(); x++) {
+                    int value = BiomeDataSectionTest.id(x, y, z);
+                    while ((value & ~0x7F) != 0) {
+                        output.write(value & 0x7F | 0x80);
+                        value >>>= 7;
+                    }
+                    output.write(value);
+                }
+            }
+        }
+        return output.toByteArray();
+    }
+
+    private static List<Biome> palette() {
+        final List<Biome> palette = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            palette.add(mock(Biome.class));
+        }
+        return palette;
+    }
+
+    @Test
+    void testRead() throws IOException {
+        final List<Biome> palette = BiomeDataSectionTest.palette();
+        final BiomeDataSectionReader reader = new BiomeDataSectionReader(
+            new ByteArrayInputStream(BiomeDataSectionTest.encode(BiomeDataSectionTest.SIZE)), BiomeDataSectionTest.SIZE, palette::get);
+        long biomes = 0;
+        int sections = 0;
+        while (reader.hasNext()) {
+            final BiomeDataSectionReader.Section section = reader.next();
+            final Vector3i origin = section.origin();
+            final Vector3i extent = section.extent();
+            Assertions.assertEquals(BiomeDataSectionTest.SIZE.min(origin.add(16, 16, 16)).sub(origin), extent);
+            for (int y = 0; y < extent.y(); y++) {
+                for (int z = 0; z < extent.z(); z++) {
+                    for (int x = 0; x < extent.x(); x++) {
+                        Assertions.assertSame(palette.get(BiomeDataSectionTest.id(origin.x() + x, origin.y() + y, origin.z() + z)),
+                            section.biome(x, y, z));
+                    }
+                }
+            }
+            biomes += (long) extent.x() * extent.y() * extent.z();
+            sections++;
+        }
+        Assertions.assertEquals(20L * 18 * 33, biomes);
+        Assertions.assertEquals(2 * 2 * 3, sections);
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        final List<Biome> palette = BiomeDataSectionTest.palette();
+        final byte[] encoded = BiomeDataSectionTest.encode(BiomeDataSectionTest.SIZE);
+        // A source volume holding the encoded biomes, offset by (100, -64, 7)
+        final Vector3i offset = new Vector3i(100, -64, 7);
+        final BiomeVolume source = mock(BiomeVolume.class, invocation -> palette.get(BiomeDataSectionTest.id(
+            invocation.<Integer>getArgument(0) - offset.x(), invocation.<Integer>getArgument(1) - offset.y(),
+            invocation.<Integer>getArgument(2) - offset.z())));
+        final BiomeDataSectionReader reader = new BiomeDataSectionReader(new ByteArrayInputStream(encoded), BiomeDataSectionTest.SIZE, palette::get);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final BiomeDataSectionWriter writer = new BiomeDataSectionWriter(output, BiomeDataSectionTest.SIZE, palette::indexOf);
+        while (reader.hasNext()) {
+            final Vector3i origin = reader.next().origin();
+            Assertions.assertFalse(writer.isComplete());
+            writer.write(origin, source, origin.add(offset));
+        }
+        Assertions.assertTrue(writer.isComplete());
+        Assertions.assertArrayEquals(encoded, output.toByteArray());
+    }
+
+    @Test
+    void testOutsideExtent() throws IOException {
+        final Vector3i size = new Vector3i(4, 4, 4);
+        final BiomeDataSectionReader reader = new BiomeDataSectionReader(new ByteArrayInputStream(BiomeDataSectionTest.encode(size)), size,
+            BiomeDataSectionTest.palette()::get);
+        final BiomeDataSectionReader.Section section = reader.next();
+        Assertions.assertFalse(reader.hasNext());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> section.biome(4, 0, 0));
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.volume.block.BlockSection;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+class BlockDataSectionTest {
+
+    private static final Vector3i SIZE = new Vector3i(20, 18, 33);
+
+    private static int id(final int x, final int y, final int z) {
+        return (x * 7 + y * 3 + z) % 200;
+    }
+
+    private static byte[] encode(final Vector3i size) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (int y = 0; y < size.y(); y++) {
+            for (int z = 0; z < size.z(); z++) {
+                for (int x = 0; x < size.x(); x++) {
+                    int value = BlockDataSectionTest.id(x, y, z);
+                    while ((value & ~0x7F) != 0) {
+                        output.write(value & 0x7F | 0x80);
+                        value >>>= 7;
+                    }
+                    output.write(value);
+                }
+            }
+        }
+        return output.toByteArray();
+    }
+
+    private static List<BlockState> palette() {
+        final List<BlockState> palette = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            palette.add(mock(BlockState.class));
+        }
+        return palette;
+    }
+
+    @Test
+    void testRead() throws IOException {
+        final List<BlockState> palette = BlockDataSectionTest.palette();
+        final BlockDataSectionReader reader = new BlockDataSectionReader(
+            new ByteArrayInputStream(BlockDataSectionTest.encode(BlockDataSectionTest.SIZE)), BlockDataSectionTest.SIZE, palette::get);
+        long blocks = 0;
+        int sections = 0;
+        while (reader.hasNext()) {
+            final BlockDataSectionReader.Section section = reader.next();
+            final Vector3i origin = section.origin();
+            final BlockSection data = section.blocks();
+            for (int y = 0; y < BlockSection.SIZE; y++) {
+                for (int z = 0; z < BlockSection.SIZE; z++) {
+                    for (int x = 0; x < BlockSection.SIZE; x++) {
+                        final BlockState state = data.get(x, y, z);
+                        final Vector3i position = origin.add(x, y, z);
+                        if (position.x() < BlockDataSectionTest.SIZE.x() && position.y() < BlockDataSectionTest.SIZE.y()
+                            && position.z() < BlockDataSectionTest.SIZE.z()) {
+                            Assertions.assertSame(palette.get(BlockDataSectionTest.id(position.x(), position.y(), position.z())), state);
+                        } else {
+                            Assertions.assertNull(state);
+                        }
+                    }
+                }
+            }
+            blocks += data.writtenCount();
+            sections++;
+        }
+        Assertions.assertEquals(20L * 18 * 33, blocks);
+        Assertions.assertEquals(2 * 2 * 3, sections);
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        final List<BlockState> palette = BlockDataSectionTest.palette();
+        final byte[] encoded = BlockDataSectionTest.encode(BlockDataSectionTest.SIZE);
+        final BlockDataSectionReader reader = new BlockDataSectionReader(new ByteArrayInputStream(encoded), BlockDataSectionTest.SIZE, palette::get);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final BlockDataSectionWriter writer = new BlockDataSectionWriter(output, BlockDataSectionTest.SIZE, palette::indexOf);
+        while (reader.hasNext()) {
+            final BlockDataSectionReader.Section section = reader.next();
+            Assertions.assertFalse(writer.isComplete());
+            writer.write(section.origin(), section.blocks());
+        }
+        Assertions.assertTrue(writer.isComplete());
+        Assertions.assertArrayEquals(encoded, output.toByteArray());
+    }
+
+    @Test
+    void testWrongSlab() {
+        final BlockDataSectionWriter writer = new BlockDataSectionWriter(new ByteArrayOutputStream(), BlockDataSectionTest.SIZE, state -> 0);
+        final BlockSection section = new BlockSection().fill(mock(BlockState.class));
+        Assertions.assertThrows(IllegalStateException.class, () -> writer.write(new Vector3i(0, 16, 0), section));
+    }
+
+    @Test
+    void testTruncated() {
+        final byte[] encoded = BlockDataSectionTest.encode(BlockDataSectionTest.SIZE);
+        final byte[] truncated = new byte[encoded.length / 2];
+        System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+        final BlockDataSectionReader reader = new BlockDataSectionReader(new ByteArrayInputStream(truncated), BlockDataSectionTest.SIZE,
+            BlockDataSectionTest.palette()::get);
+        Assertions.assertThrows(EOFException.class, () -> {
+            while (reader.hasNext()) {
+                reader.next();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.archetype;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.event.cause.entity.SpawnType;
+import org.spongepowered.api.registry.BuilderProvider;
+import org.spongepowered.api.registry.FactoryProvider;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.api.world.storage.ChunkLayout;
+import org.spongepowered.api.world.volume.MutableVolume;
+import org.spongepowered.api.world.volume.block.BlockSection;
+import org.spongepowered.api.world.volume.stream.VolumeCollector;
+import org.spongepowered.api.world.volume.stream.VolumeElement;
+import org.spongepowered.api.world.volume.stream.VolumePositionTranslator;
+import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+class IncrementalApplierTest {
+
+    private static final Vector3i MIN = Vector3i.ZERO;
+    // Two chunks, each made of a complete section and a quarter of one
+    private static final Vector3i MAX = new Vector3i(31, 19, 15);
+    private static final Vector3i PLACEMENT = new Vector3i(16, 0, -16);
+
+    /**
+     * Creates a stream of the given region of the volume, applying elements
+     * the way implementations do.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static VolumeStream<ArchetypeVolume, BlockState> blocks(final ArchetypeVolume volume, final Vector3i min, final Vector3i max,
+        final BlockState state, final VolumePositionTranslator<ArchetypeVolume, BlockState> translator) {
+        final VolumeStream<ArchetypeVolume, BlockState> stream = mock(VolumeStream.class, withSettings().defaultAnswer(Mockito.CALLS_REAL_METHODS));
+        Mockito.doAnswer(invocation -> {
+            final VolumePositionTranslator<ArchetypeVolume, BlockState> next = invocation.getArgument(0);
+            return IncrementalApplierTest.blocks(volume, min, max, state, element -> next.apply(translator.apply(element)));
+        }).when(stream).transform(ArgumentMatchers.any());
+        Mockito.doAnswer(invocation -> {
+            final VolumeCollector collector = invocation.getArgument(0);
+            final Predicate<Object> predicate = invocation.getArgument(1);
+            final MutableVolume target = (MutableVolume) collector.target().get();
+            for (int y = min.y(); y <= max.y(); y++) {
+                for (int z = min.z(); z <= max.z(); z++) {
+                    for (int x = min.x(); x <= max.x(); x++) {
+                        final VolumeElement<ArchetypeVolume, BlockState> element = VolumeElement.of(volume, state, new Vector3d(x, y, z));
+                        final Object result = collector.applicator().apply(target,
+                            collector.positionTransform().apply(translator.apply(element)));
+                        if (!predicate.test(result)) {
+                            return null;
+                        }
+                    }
+                }
+            }
+            return null;
+        }).when(stream).applyUntil(ArgumentMatchers.any(), ArgumentMatchers.any());
+        return stream;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VolumeStream<ArchetypeVolume, ?> empty() {
+        final VolumeStream<ArchetypeVolume, ?> stream = mock(VolumeStream.class, withSettings().defaultAnswer(Mockito.CALLS_REAL_METHODS));
+        Mockito.doNothing().when(stream).applyUntil(ArgumentMatchers.any(), ArgumentMatchers.any());
+        return stream;
+    }
+
+    /**
+     * Applies the volume with the given budget until done.
+     *
+     * @return The number of blocks written per tick
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Integer> apply(final ApplyBudget budget, final List<ApplyProgress> progress) throws Exception {
+        final BlockState state = mock(BlockState.class);
+        final ArchetypeVolume volume = mock(ArchetypeVolume.class, invocation -> {
+            if (VolumeStream.class.equals(invocation.getMethod().getReturnType())) {
+                return IncrementalApplierTest.empty();
+            }
+            return invocation.getMethod().isDefault() ? invocation.callRealMethod() : null;
+        });
+        Mockito.doReturn(IncrementalApplierTest.MIN).when(volume).min();
+        Mockito.doReturn(IncrementalApplierTest.MAX).when(volume).max();
+        Mockito.doAnswer(invocation -> IncrementalApplierTest.blocks(volume, invocation.getArgument(0), invocation.getArgument(1), state,
+            element -> element)).when(volume).blockStateStream(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+
+        final ChunkLayout layout = mock(ChunkLayout.class);
+        when(layout.chunkSize()).thenReturn(new Vector3i(16, 256, 16));
+        final ServerWorld world = mock(ServerWorld.class, Mockito.RETURNS_DEEP_STUBS);
+        when(world.engine().chunkLayout()).thenReturn(layout);
+        final Map<Vector3i, Integer> sections = new LinkedHashMap<>();
+        Mockito.doAnswer(invocation -> {
+            final BlockSection section = invocation.getArgument(3);
+            Assertions.assertNull(sections.put(new Vector3i(invocation.<Integer>getArgument(0), invocation.<Integer>getArgument(1),
+                invocation.<Integer>getArgument(2)), section.writtenCount()), "Section written twice");
+            return true;
+        }).when(world).setSection(ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt(), ArgumentMatchers.any(),
+            ArgumentMatchers.any());
+
+        final Game game = mock(Game.class, Mockito.RETURNS_DEEP_STUBS);
+        // Flags, keys, ticket types and stream options are only passed around
+        final FactoryProvider factories = mock(FactoryProvider.class,
+            invocation -> mock(invocation.<Class<?>>getArgument(0), Mockito.RETURNS_DEEP_STUBS));
+        when(game.factoryProvider()).thenReturn(factories);
+        final BuilderProvider builders = mock(BuilderProvider.class, invocation -> mock(invocation.<Class<?>>getArgument(0), Mockito.RETURNS_SELF));
+        when(game.builderProvider()).thenReturn(builders);
+        final Task.Builder taskBuilder = mock(Task.Builder.class, Mockito.RETURNS_SELF);
+        final List<Consumer<ScheduledTask>> executors = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            executors.add(invocation.getArgument(0));
+            return taskBuilder;
+        }).when(taskBuilder).execute(ArgumentMatchers.<Consumer<ScheduledTask>>any());
+        Mockito.doReturn(taskBuilder).when(builders).provide(Task.Builder.class);
+        final ScheduledTask task = mock(ScheduledTask.class);
+        final List<Integer> ticks = new ArrayList<>();
+        try (final MockedStatic<Sponge> sponge = mockStatic(Sponge.class)) {
+            sponge.when(Sponge::game).thenReturn(game);
+            sponge.when(Sponge::server).thenAnswer(invocation -> game.server());
+            final CompletableFuture<ApplyProgress> future = volume.applyToWorld(world, IncrementalApplierTest.PLACEMENT, () -> mock(SpawnType.class),
+                mock(PluginContainer.class), budget, progress::add);
+            Assertions.assertEquals(1, executors.size());
+            while (!future.isDone()) {
+                Assertions.assertTrue(ticks.size() < 100, "Application did not progress");
+                executors.get(0).accept(task);
+                ticks.add(sections.values().stream().mapToInt(Integer::intValue).sum() - ticks.stream().mapToInt(Integer::intValue).sum());
+            }
+            IncrementalApplierTest.assertProgress(10240, 2, future.get());
+        }
+        Mockito.verify(task).cancel();
+        Assertions.assertEquals(Map.of(
+            new Vector3i(16, 0, -16), BlockSection.VOLUME,
+            new Vector3i(16, 16, -16), 1024,
+            new Vector3i(32, 0, -16), BlockSection.VOLUME,
+            new Vector3i(32, 16, -16), 1024
+        ), sections);
+        return ticks;
+    }
+
+    private static void assertProgress(final long appliedBlocks, final int completedChunks, final ApplyProgress progress) {
+        Assertions.assertEquals(appliedBlocks, progress.appliedBlocks());
+        Assertions.assertEquals(10240, progress.totalBlocks());
+        Assertions.assertEquals(completedChunks, progress.completedChunks());
+        Assertions.assertEquals(2, progress.totalChunks());
+    }
+
+    @Test
+    void testBlockBudget() throws Exception {
+        final List<ApplyProgress> progress = new ArrayList<>();
+        // A tick never starts a section that does not fit in the remaining budget
+        Assertions.assertEquals(List.of(4096, 1024, 4096, 1024), IncrementalApplierTest.apply(ApplyBudget.blocks(4096), progress));
+        Assertions.assertEquals(2, progress.size());
+        IncrementalApplierTest.assertProgress(5120, 1, progress.get(0));
+        IncrementalApplierTest.assertProgress(10240, 2, progress.get(1));
+    }
+
+    @Test
+    void testTimeBudget() throws Exception {
+        final List<ApplyProgress> progress = new ArrayList<>();
+        // Every tick applies at least one section, or completes a chunk
+        Assertions.assertEquals(List.of(4096, 1024, 4096, 1024, 0), IncrementalApplierTest.apply(ApplyBudget.time(Duration.ofNanos(1)), progress));
+        Assertions.assertEquals(2, progress.size());
+        IncrementalApplierTest.assertProgress(5120, 1, progress.get(0));
+        IncrementalApplierTest.assertProgress(10240, 2, progress.get(1));
+    }
+
+    @Test
+    void testMinimumBudget() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ApplyBudget.blocks(BlockSection.VOLUME - 1));
+    }
+
+}
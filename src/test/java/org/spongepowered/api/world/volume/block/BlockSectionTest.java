@@ -0,0 +1,86 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.block;
+
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.block.BlockState;
+
+import java.util.List;
+
+class BlockSectionTest {
+
+    @Test
+    void testPalette() {
+        final BlockState stone = mock(BlockState.class);
+        final BlockState air = mock(BlockState.class);
+        final BlockSection section = new BlockSection()
+            .set(0, 0, 0, stone)
+            .set(15, 15, 15, air)
+            .set(3, 4, 5, stone);
+
+        Assertions.assertEquals(List.of(stone, air), section.palette());
+        Assertions.assertEquals(3, section.writtenCount());
+        Assertions.assertSame(stone, section.get(3, 4, 5));
+        Assertions.assertNull(section.get(5, 4, 3));
+        Assertions.assertEquals(1, section.id(BlockSection.index(15, 15, 15)));
+        Assertions.assertEquals(-1, section.id(BlockSection.index(1, 0, 0)));
+
+        section.set(3, 4, 5, air);
+        Assertions.assertEquals(3, section.writtenCount());
+        Assertions.assertSame(air, section.get(3, 4, 5));
+    }
+
+    @Test
+    void testComplete() {
+        final BlockState stone = mock(BlockState.class);
+        final BlockSection section = new BlockSection();
+        for (int y = 0; y < BlockSection.SIZE; y++) {
+            for (int z = 0; z < BlockSection.SIZE; z++) {
+                for (int x = 0; x < BlockSection.SIZE; x++) {
+                    Assertions.assertFalse(section.isComplete());
+                    section.set(x, y, z, stone);
+                }
+            }
+        }
+        Assertions.assertTrue(section.isComplete());
+        Assertions.assertEquals(List.of(stone), section.palette());
+
+        section.clear();
+        Assertions.assertEquals(0, section.writtenCount());
+        Assertions.assertTrue(section.fill(stone).isComplete());
+    }
+
+    @Test
+    void testOutOfBounds() {
+        final BlockSection section = new BlockSection();
+        final BlockState stone = mock(BlockState.class);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> section.set(16, 0, 0, stone));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> section.get(0, -1, 0));
+    }
+
+}
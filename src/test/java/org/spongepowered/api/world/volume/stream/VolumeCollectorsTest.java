@@ -0,0 +1,127 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.stream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.api.world.volume.block.BlockSection;
+import org.spongepowered.api.world.volume.block.PhysicsAwareMutableBlockVolume;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+class VolumeCollectorsTest {
+
+    /**
+     * Creates a stream over the given region, applying elements the way
+     * implementations do.
+     */
+    @SuppressWarnings("unchecked")
+    private static VolumeStream<Volume, BlockState> stream(final Vector3i min, final Vector3i max, final BlockState state) {
+        final Volume source = mock(Volume.class);
+        final VolumeStream<Volume, BlockState> stream = mock(VolumeStream.class, withSettings().defaultAnswer(Mockito.CALLS_REAL_METHODS));
+        Mockito.doAnswer(invocation -> {
+            final VolumeCollector<PhysicsAwareMutableBlockVolume<?>, BlockState, Object> collector = invocation.getArgument(0);
+            final Predicate<Object> predicate = invocation.getArgument(1);
+            final PhysicsAwareMutableBlockVolume<?> target = collector.target().get();
+            for (int y = min.y(); y <= max.y(); y++) {
+                for (int z = min.z(); z <= max.z(); z++) {
+                    for (int x = min.x(); x <= max.x(); x++) {
+                        final Object result = collector.applicator().apply(target, VolumeElement.of(source, state, new Vector3d(x, y, z)));
+                        if (!predicate.test(result)) {
+                            return null;
+                        }
+                    }
+                }
+            }
+            return null;
+        }).when(stream).applyUntil(ArgumentMatchers.any(), ArgumentMatchers.any());
+        return stream;
+    }
+
+    /**
+     * Creates a target volume recording the number of blocks written per
+     * section, failing to write complete sections if requested.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static PhysicsAwareMutableBlockVolume target(final Map<Vector3i, Integer> written, final boolean failComplete) {
+        final PhysicsAwareMutableBlockVolume volume = mock(PhysicsAwareMutableBlockVolume.class);
+        Mockito.doAnswer(invocation -> {
+            final BlockSection section = invocation.getArgument(3);
+            Assertions.assertNull(written.put(new Vector3i(invocation.<Integer>getArgument(0), invocation.<Integer>getArgument(1),
+                invocation.<Integer>getArgument(2)), section.writtenCount()), "Section written twice");
+            return !(failComplete && section.isComplete());
+        }).when(volume).setSection(ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt(), ArgumentMatchers.any(),
+            ArgumentMatchers.any());
+        return volume;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testUnalignedRegion() {
+        final Map<Vector3i, Integer> written = new LinkedHashMap<>();
+        final BlockState state = mock(BlockState.class);
+        final PhysicsAwareMutableBlockVolume volume = VolumeCollectorsTest.target(written, false);
+        VolumeCollectorsTest.stream(new Vector3i(-3, 14, 5), new Vector3i(17, 17, 20), state)
+            .apply(VolumeCollectors.applyBlocksBySection(volume, mock(BlockChangeFlag.class)));
+
+        final Map<Vector3i, Integer> expected = new LinkedHashMap<>();
+        for (final int y : new int[] {0, 16}) {
+            for (final int z : new int[] {0, 16}) {
+                for (final int x : new int[] {-16, 0, 16}) {
+                    final int width = x == -16 ? 3 : x == 0 ? 16 : 2;
+                    final int depth = z == 0 ? 11 : 5;
+                    expected.put(new Vector3i(x, y, z), width * 2 * depth);
+                }
+            }
+        }
+        Assertions.assertEquals(expected, written);
+        Assertions.assertEquals(21 * 4 * 16, written.values().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStopEarly() {
+        final Map<Vector3i, Integer> written = new LinkedHashMap<>();
+        final BlockState state = mock(BlockState.class);
+        final PhysicsAwareMutableBlockVolume volume = VolumeCollectorsTest.target(written, true);
+        final VolumeCollector<?, BlockState, Boolean> collector = VolumeCollectors.applyBlocksBySection(volume, mock(BlockChangeFlag.class));
+        // The section at the origin is complete, the one next to it only partially covered
+        VolumeCollectorsTest.stream(Vector3i.ZERO, new Vector3i(16, 15, 15), state).applyUntil(collector, result -> result);
+        Assertions.assertEquals(Map.of(Vector3i.ZERO, BlockSection.VOLUME), written);
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.stream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class VolumeCursorTest {
+
+    private static final Vector3i MIN = new Vector3i(-2, -1, 3);
+    private static final Vector3i MAX = new Vector3i(1, 2, 5);
+
+    @SuppressWarnings("unchecked")
+    private static VolumeStream<Volume, String> stream(final Volume volume, final List<String> types, final boolean parallel) {
+        final VolumeStream<Volume, String> stream = mock(VolumeStream.class, withSettings().defaultAnswer(Mockito.CALLS_REAL_METHODS));
+        Mockito.doReturn(parallel).when(stream).isParallel();
+        Mockito.doAnswer(invocation -> {
+            final VolumeConsumer<Volume, String> visitor = invocation.getArgument(0);
+            int index = 0;
+            for (int y = VolumeCursorTest.MIN.y(); y <= VolumeCursorTest.MAX.y(); y++) {
+                for (int z = VolumeCursorTest.MIN.z(); z <= VolumeCursorTest.MAX.z(); z++) {
+                    for (int x = VolumeCursorTest.MIN.x(); x <= VolumeCursorTest.MAX.x(); x++) {
+                        visitor.consume(volume, types.get(index++), (double) x, (double) y, (double) z);
+                    }
+                }
+            }
+            return null;
+        }).when(stream).forEach(ArgumentMatchers.<VolumeConsumer<Volume, String>>any());
+        return stream;
+    }
+
+    private static void assertMatchesElements(final boolean parallel) {
+        final Volume volume = mock(Volume.class);
+        // Elements only weakly reference their type, so keep the types around
+        final List<String> types = new ArrayList<>();
+        for (int i = 0; i < 4 * 4 * 3; i++) {
+            types.add("type" + i);
+        }
+        final VolumeStream<Volume, String> stream = VolumeCursorTest.stream(volume, types, parallel);
+        final List<VolumeElement<Volume, String>> elements = new ArrayList<>();
+        stream.forEach(elements::add);
+        final List<VolumeElement<Volume, String>> cursors = new ArrayList<>();
+        final List<Vector3i> positions = new ArrayList<>();
+        stream.forEachCursor(cursor -> {
+            cursors.add(cursor.toElement());
+            positions.add(cursor.blockPosition());
+            Assertions.assertEquals(cursor.blockPosition(), new Vector3i(cursor.x(), cursor.y(), cursor.z()));
+        });
+
+        Assertions.assertEquals(types.size(), elements.size());
+        Assertions.assertEquals(elements.size(), cursors.size());
+        for (int i = 0; i < elements.size(); i++) {
+            final VolumeElement<Volume, String> element = elements.get(i);
+            final VolumeElement<Volume, String> cursor = cursors.get(i);
+            Assertions.assertSame(volume, cursor.volume());
+            Assertions.assertSame(types.get(i), element.type());
+            Assertions.assertSame(element.type(), cursor.type());
+            Assertions.assertEquals(element.position(), cursor.position());
+            Assertions.assertEquals(element.position().toInt(), positions.get(i));
+        }
+    }
+
+    @Test
+    void testMatchesElements() {
+        VolumeCursorTest.assertMatchesElements(false);
+    }
+
+    @Test
+    void testMatchesElementsParallel() {
+        VolumeCursorTest.assertMatchesElements(true);
+    }
+
+    @Test
+    void testUnpositioned() {
+        final VolumeCursor<Volume, String> cursor = new VolumeCursor<>();
+        Assertions.assertThrows(NullPointerException.class, cursor::element);
+        Assertions.assertThrows(NullPointerException.class, cursor::toElement);
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+class VolumePartitionTest {
+
+    private static final Vector3i CHUNK_SIZE = new Vector3i(16, 256, 16);
+
+    @Test
+    void testSplitOnChunkBoundary() {
+        final VolumePartition partition = VolumePartition.of(new Vector3i(-20, 0, 5), new Vector3i(40, 255, 10), VolumePartitionTest.CHUNK_SIZE);
+        final List<VolumePartition> halves = partition.split();
+        Assertions.assertEquals(2, halves.size());
+        Assertions.assertEquals(new Vector3i(-20, 0, 5), halves.get(0).min());
+        Assertions.assertEquals(new Vector3i(-1, 255, 10), halves.get(0).max());
+        Assertions.assertEquals(new Vector3i(0, 0, 5), halves.get(1).min());
+        Assertions.assertEquals(new Vector3i(40, 255, 10), halves.get(1).max());
+        Assertions.assertEquals(partition.blockCount(), halves.get(0).blockCount() + halves.get(1).blockCount());
+    }
+
+    @Test
+    void testSingleChunk() {
+        final VolumePartition partition = VolumePartition.of(new Vector3i(1, 0, 1), new Vector3i(14, 100, 14), VolumePartitionTest.CHUNK_SIZE);
+        Assertions.assertTrue(partition.split().isEmpty());
+        Assertions.assertEquals(1, partition.chunkCount());
+        Assertions.assertEquals(List.of(partition), partition.chunks());
+    }
+
+    @Test
+    void testRecursiveSplitCoversRegion() {
+        final VolumePartition partition = VolumePartition.of(new Vector3i(-100, 0, -37), new Vector3i(99, 255, 60), VolumePartitionTest.CHUNK_SIZE);
+        final Deque<VolumePartition> pending = new ArrayDeque<>(List.of(partition));
+        long blocks = 0;
+        int leaves = 0;
+        while (!pending.isEmpty()) {
+            final VolumePartition next = pending.pop();
+            final List<VolumePartition> halves = next.split();
+            if (halves.isEmpty()) {
+                Assertions.assertEquals(1, next.chunkCount());
+                blocks += next.blockCount();
+                leaves++;
+            } else {
+                pending.addAll(halves);
+            }
+        }
+        Assertions.assertEquals(partition.blockCount(), blocks);
+        Assertions.assertEquals(partition.chunkCount(), leaves);
+        Assertions.assertEquals(partition.chunkCount(), partition.chunks().size());
+    }
+
+    @Test
+    void testInvalidBounds() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> VolumePartition.of(new Vector3i(1, 0, 0), new Vector3i(0, 0, 0), VolumePartitionTest.CHUNK_SIZE));
+    }
+
+}
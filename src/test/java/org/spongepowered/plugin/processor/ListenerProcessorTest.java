@@ -0,0 +1,461 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.plugin.processor;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.geantyref.TypeToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.EventListenerRegistration;
+import org.spongepowered.api.event.GeneratedEventListeners;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.registry.FactoryProvider;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+class ListenerProcessorTest {
+
+    private static final String SAMPLE = String.join("\n",
+        "package test;",
+        "",
+        "import org.spongepowered.api.event.Cancellable;",
+        "import org.spongepowered.api.event.Event;",
+        "import org.spongepowered.api.event.Listener;",
+        "import org.spongepowered.api.event.Order;",
+        "import org.spongepowered.api.event.filter.Getter;",
+        "import org.spongepowered.api.event.filter.IsCancelled;",
+        "import org.spongepowered.api.event.filter.cause.First;",
+        "import org.spongepowered.api.event.filter.cause.Root;",
+        "import org.spongepowered.api.event.filter.type.Exclude;",
+        "import org.spongepowered.api.event.filter.type.Include;",
+        "import org.spongepowered.api.util.Tristate;",
+        "",
+        "import java.util.ArrayList;",
+        "import java.util.List;",
+        "import java.util.Optional;",
+        "",
+        "public class Sample {",
+        "",
+        "    public final List<String> calls = new ArrayList<>();",
+        "",
+        "    public interface NamedEvent extends Event {",
+        "        String name();",
+        "        Optional<String> label();",
+        "        int count();",
+        "    }",
+        "",
+        "    public interface SpecialEvent extends NamedEvent {",
+        "    }",
+        "",
+        "    public interface StoppableEvent extends Event, Cancellable {",
+        "    }",
+        "",
+        "    @Listener(order = Order.EARLY, beforeModifications = true)",
+        "    public void onNamed(final NamedEvent event) {",
+        "        this.calls.add(\"named\");",
+        "    }",
+        "",
+        "    @Listener(order = Order.LATE, async = true)",
+        "    @Include(SpecialEvent.class)",
+        "    public void onSpecial(final NamedEvent event) {",
+        "        this.calls.add(\"special\");",
+        "    }",
+        "",
+        "    @Listener",
+        "    @Exclude(SpecialEvent.class)",
+        "    public void onPlain(final NamedEvent event) {",
+        "        this.calls.add(\"plain\");",
+        "    }",
+        "",
+        "    @Listener",
+        "    public void onGetter(final NamedEvent event, @Getter(\"name\") final String name, @Getter(\"label\") final String label,",
+        "        @Getter(\"count\") final int count) {",
+        "        this.calls.add(\"getter \" + name + \" \" + label + \" \" + count);",
+        "    }",
+        "",
+        "    @Listener",
+        "    public void onCause(final NamedEvent event, @First final Integer number, @Root final String root) {",
+        "        this.calls.add(\"cause \" + number + \" \" + root);",
+        "    }",
+        "",
+        "    @Listener",
+        "    public void onStoppable(final StoppableEvent event) {",
+        "        this.calls.add(\"stoppable\");",
+        "    }",
+        "",
+        "    @Listener",
+        "    @IsCancelled(Tristate.TRUE)",
+        "    public void onStopped(final StoppableEvent event) {",
+        "        this.calls.add(\"stopped\");",
+        "    }",
+        "",
+        "}");
+
+    @TempDir
+    Path output;
+
+    private DiagnosticCollector<JavaFileObject> compile(final String name, final String source) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (final StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            files.setLocation(StandardLocation.CLASS_OUTPUT, List.of(this.output.toFile()));
+            files.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(this.output.toFile()));
+            final JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            };
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+                List.of("-classpath", System.getProperty("java.class.path")), null, List.of(file));
+            task.setProcessors(List.of(new ListenerProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+
+    private static List<String> messages(final DiagnosticCollector<JavaFileObject> diagnostics, final Diagnostic.Kind kind) {
+        return diagnostics.getDiagnostics().stream()
+            .filter(diagnostic -> diagnostic.getKind() == kind)
+            .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+            .collect(Collectors.toList());
+    }
+
+    private void assertError(final String source, final String message) throws IOException {
+        final List<String> errors = ListenerProcessorTest.messages(this.compile("test.Invalid", source), Diagnostic.Kind.ERROR);
+        Assertions.assertTrue(errors.stream().anyMatch(error -> error.contains(message)), () -> "Expected an error containing '" + message
+            + "', got " + errors);
+        Assertions.assertFalse(Files.exists(this.output.resolve("test/Invalid" + GeneratedEventListeners.CLASS_SUFFIX + ".java")));
+    }
+
+    /**
+     * Creates the registrations of the given listener, with registration
+     * builders that simply record what they are given.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<EventListenerRegistration<?>> registrations(final Class<?> listenerClass, final Object listener) {
+        final Game game = mock(Game.class);
+        final FactoryProvider factoryProvider = mock(FactoryProvider.class);
+        when(game.factoryProvider()).thenReturn(factoryProvider);
+        when(factoryProvider.provide(EventListenerRegistration.Factory.class)).thenReturn(new RegistrationFactory());
+        try (final MockedStatic<Sponge> sponge = mockStatic(Sponge.class)) {
+            sponge.when(Sponge::game).thenReturn(game);
+            final GeneratedEventListeners<Object> listeners = (GeneratedEventListeners<Object>) GeneratedEventListeners.find(listenerClass)
+                .orElseThrow();
+            return listeners.registrations(mock(PluginContainer.class), listener);
+        }
+    }
+
+    /**
+     * Posts the event to all registrations listening to its type.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void post(final List<EventListenerRegistration<?>> registrations, final Event event) throws Exception {
+        for (final EventListenerRegistration<?> registration : registrations) {
+            if (GenericTypeReflector.erase(registration.eventType()).isInstance(event)) {
+                ((EventListener) registration.listener()).handle(event);
+            }
+        }
+    }
+
+    private static <T extends Event> T event(final Class<T> type, final Cause cause, final String name, final @Nullable String label,
+        final int count, final boolean cancelled) {
+        return mock(type, invocation -> {
+            switch (invocation.getMethod().getName()) {
+                case "cause":
+                    return cause;
+                case "context":
+                    return cause.context();
+                case "name":
+                    return name;
+                case "label":
+                    return Optional.ofNullable(label);
+                case "count":
+                    return count;
+                case "isCancelled":
+                    return cancelled;
+                default:
+                    throw new UnsupportedOperationException(invocation.getMethod().toString());
+            }
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGeneratedListeners() throws Exception {
+        Assertions.assertEquals(List.of(), ListenerProcessorTest.messages(this.compile("test.Sample", ListenerProcessorTest.SAMPLE),
+            Diagnostic.Kind.ERROR));
+        try (final URLClassLoader loader = new URLClassLoader(new URL[] {this.output.toUri().toURL()}, this.getClass().getClassLoader())) {
+            final Class<?> sample = loader.loadClass("test.Sample");
+            final Class<? extends Event> named = (Class<? extends Event>) loader.loadClass("test.Sample$NamedEvent");
+            final Class<? extends Event> special = (Class<? extends Event>) loader.loadClass("test.Sample$SpecialEvent");
+            final Class<? extends Event> stoppable = (Class<? extends Event>) loader.loadClass("test.Sample$StoppableEvent");
+            final Object listener = sample.getConstructor().newInstance();
+            final List<String> calls = (List<String>) sample.getField("calls").get(listener);
+
+            final List<EventListenerRegistration<?>> registrations = ListenerProcessorTest.registrations(sample, listener);
+            Assertions.assertEquals(7, registrations.size());
+            final EventListenerRegistration<?> first = registrations.get(0);
+            Assertions.assertEquals(named, first.eventType());
+            Assertions.assertEquals(Order.EARLY, first.order());
+            Assertions.assertTrue(first.beforeModifications());
+            Assertions.assertFalse(first.async());
+            final EventListenerRegistration<?> second = registrations.get(1);
+            Assertions.assertEquals(Order.LATE, second.order());
+            Assertions.assertFalse(second.beforeModifications());
+            Assertions.assertTrue(second.async());
+            Assertions.assertEquals(Order.DEFAULT, registrations.get(2).order());
+
+            final Cause cause = Cause.of(EventContext.empty(), "root", 3, 4);
+            ListenerProcessorTest.post(registrations, ListenerProcessorTest.event(named, cause, "a", "b", 5, false));
+            Assertions.assertEquals(List.of("named", "plain", "getter a b 5", "cause 3 root"), calls);
+
+            calls.clear();
+            ListenerProcessorTest.post(registrations, ListenerProcessorTest.event(special, Cause.of(EventContext.empty(), 6), "c", null, 7,
+                false));
+            // The Optional getter is empty and the root is not a string
+            Assertions.assertEquals(List.of("named", "special"), calls);
+
+            calls.clear();
+            ListenerProcessorTest.post(registrations, ListenerProcessorTest.event(stoppable, cause, "", null, 0, false));
+            ListenerProcessorTest.post(registrations, ListenerProcessorTest.event(stoppable, cause, "", null, 0, true));
+            Assertions.assertEquals(List.of("stoppable", "stopped"), calls);
+        }
+    }
+
+    @Test
+    void testUnsupportedFilter() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = this.compile("test.Fallback", String.join("\n",
+            "package test;",
+            "public class Fallback {",
+            "    @org.spongepowered.api.event.Listener",
+            "    public void onEvent(final org.spongepowered.api.event.Event event) {",
+            "    }",
+            "    @org.spongepowered.api.event.Listener",
+            "    public void onAll(final org.spongepowered.api.event.Event event,",
+            "        @org.spongepowered.api.event.filter.cause.All final Integer[] numbers) {",
+            "    }",
+            "}"));
+        Assertions.assertEquals(List.of(), ListenerProcessorTest.messages(diagnostics, Diagnostic.Kind.ERROR));
+        Assertions.assertTrue(ListenerProcessorTest.messages(diagnostics, Diagnostic.Kind.NOTE).stream()
+            .anyMatch(note -> note.contains("the listeners of Fallback will be generated at runtime")));
+        try (final URLClassLoader loader = new URLClassLoader(new URL[] {this.output.toUri().toURL()}, this.getClass().getClassLoader())) {
+            Assertions.assertEquals(Optional.empty(), GeneratedEventListeners.find(loader.loadClass("test.Fallback")));
+        }
+    }
+
+    @Test
+    void testPrivateListener() throws Exception {
+        this.compile("test.Hidden", String.join("\n",
+            "package test;",
+            "public class Hidden {",
+            "    @org.spongepowered.api.event.Listener",
+            "    private void onEvent(final org.spongepowered.api.event.Event event) {",
+            "    }",
+            "}"));
+        try (final URLClassLoader loader = new URLClassLoader(new URL[] {this.output.toUri().toURL()}, this.getClass().getClassLoader())) {
+            Assertions.assertEquals(Optional.empty(), GeneratedEventListeners.find(loader.loadClass("test.Hidden")));
+        }
+    }
+
+    @Test
+    void testStaticListener() throws IOException {
+        this.assertError(String.join("\n",
+            "package test;",
+            "public class Invalid {",
+            "    @org.spongepowered.api.event.Listener",
+            "    public static void onEvent(final org.spongepowered.api.event.Event event) {",
+            "    }",
+            "}"), "Event listener method must not be static");
+    }
+
+    @Test
+    void testReturnType() throws IOException {
+        this.assertError(String.join("\n",
+            "package test;",
+            "public class Invalid {",
+            "    @org.spongepowered.api.event.Listener",
+            "    public boolean onEvent(final org.spongepowered.api.event.Event event) {",
+            "        return true;",
+            "    }",
+            "}"), "Event listener method must return void");
+    }
+
+    @Test
+    void testMissingEvent() throws IOException {
+        this.assertError(String.join("\n",
+            "package test;",
+            "public class Invalid {",
+            "    @org.spongepowered.api.event.Listener",
+            "    public void onEvent(final String event) {",
+            "    }",
+            "}"), "Event listener method must have an Event as its first parameter");
+    }
+
+    @Test
+    void testCancelledFilterMisuse() throws IOException {
+        this.assertError(String.join("\n",
+            "package test;",
+            "public class Invalid {",
+            "    @org.spongepowered.api.event.Listener",
+            "    @org.spongepowered.api.event.filter.IsCancelled",
+            "    public void onEvent(final org.spongepowered.api.event.Event event) {",
+            "    }",
+            "}"), "A listener for a non-Cancellable method cannot be annotated with @IsCancelled");
+    }
+
+    @Test
+    void testTypeFilterMisuse() throws IOException {
+        this.assertError(String.join("\n",
+            "package test;",
+            "public class Invalid {",
+            "    public interface OtherEvent extends org.spongepowered.api.event.Event {",
+            "    }",
+            "    @org.spongepowered.api.event.Listener",
+            "    @org.spongepowered.api.event.filter.type.Include(String.class)",
+            "    public void onEvent(final OtherEvent event) {",
+            "    }",
+            "}"), "All filtered types must be subtypes of the event type");
+    }
+
+    @Test
+    void testAsyncCancellable() throws IOException {
+        this.assertError(String.join("\n",
+            "package test;",
+            "public class Invalid {",
+            "    public interface StoppableEvent extends org.spongepowered.api.event.Event, org.spongepowered.api.event.Cancellable {",
+            "    }",
+            "    @org.spongepowered.api.event.Listener(async = true)",
+            "    public void onEvent(final StoppableEvent event) {",
+            "    }",
+            "}"), "An asynchronous listener cannot listen to a Cancellable event");
+    }
+
+    private static final class RegistrationFactory implements EventListenerRegistration.Factory {
+
+        @Override
+        public <T extends Event> EventListenerRegistration.Builder<T> builder(final TypeToken<T> eventType) {
+            return new RegistrationBuilder<>(eventType.getType());
+        }
+
+    }
+
+    private static final class RegistrationBuilder<T extends Event> implements EventListenerRegistration.Builder<T> {
+
+        private final Type eventType;
+        private @Nullable PluginContainer plugin;
+        private Order order = Order.DEFAULT;
+        private boolean beforeModifications;
+        private boolean async;
+        private @Nullable EventListener<? super T> listener;
+
+        RegistrationBuilder(final Type eventType) {
+            this.eventType = eventType;
+        }
+
+        @Override
+        public EventListenerRegistration.Builder<T> plugin(final PluginContainer plugin) {
+            this.plugin = plugin;
+            return this;
+        }
+
+        @Override
+        public EventListenerRegistration.Builder<T> order(final Order order) {
+            this.order = order;
+            return this;
+        }
+
+        @Override
+        public EventListenerRegistration.Builder<T> beforeModifications(final boolean beforeModifications) {
+            this.beforeModifications = beforeModifications;
+            return this;
+        }
+
+        @Override
+        public EventListenerRegistration.Builder<T> async(final boolean async) {
+            this.async = async;
+            return this;
+        }
+
+        @Override
+        public EventListenerRegistration.Builder<T> listener(final EventListener<? super T> listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        @Override
+        public EventListenerRegistration<T> build() {
+            return new Registration<>(this.eventType, this.plugin, this.order, this.beforeModifications, this.async, this.listener);
+        }
+
+        @Override
+        public EventListenerRegistration.Builder<T> reset() {
+            return this;
+        }
+
+    }
+
+    @SuppressWarnings("nullness")
+    private record Registration<T extends Event>(Type eventType, PluginContainer plugin, Order order, boolean beforeModifications,
+        boolean async, EventListener<? super T> listener) implements EventListenerRegistration<T> {
+    }
+
+}
@@ -0,0 +1,315 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.plugin.processor;
+
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.spongepowered.api.network.channel.ChannelBuf;
+import org.spongepowered.api.network.channel.ChannelIOException;
+import org.spongepowered.api.network.channel.packet.PacketCodec;
+
+import java.io.IOException;
+import java.lang.reflect.RecordComponent;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+class PacketCodecProcessorTest {
+
+    private static final String SAMPLE = String.join("\n",
+        "package test;",
+        "",
+        "import org.spongepowered.api.network.channel.packet.PacketField;",
+        "",
+        "public record Sample(",
+        "    @PacketField int count,",
+        "    @PacketField(fixedWidth = true) long hash,",
+        "    @PacketField boolean flag,",
+        "    @PacketField short small,",
+        "    @PacketField double weight,",
+        "    @PacketField(maxLength = 16) String name,",
+        "    @PacketField java.util.UUID id,",
+        "    @PacketField byte[] data,",
+        "    @PacketField Mode mode,",
+        "    @PacketField(fixedWidth = true) java.util.List<Integer> values,",
+        "    @PacketField java.util.Optional<String> label,",
+        "    @PacketField java.util.Optional<Inner> inner) {",
+        "",
+        "    public enum Mode { FIRST, SECOND }",
+        "",
+        "    public record Inner(@PacketField long value, @PacketField java.util.List<String> tags) {",
+        "    }",
+        "",
+        "}");
+
+    @TempDir
+    Path output;
+
+    private DiagnosticCollector<JavaFileObject> compile(final String name, final String source) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (final StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            files.setLocation(StandardLocation.CLASS_OUTPUT, List.of(this.output.toFile()));
+            files.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(this.output.toFile()));
+            final JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            };
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+                List.of("-classpath", System.getProperty("java.class.path")), null, List.of(file));
+            task.setProcessors(List.of(new PacketCodecProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+
+    private static List<String> errors(final DiagnosticCollector<JavaFileObject> diagnostics) {
+        return diagnostics.getDiagnostics().stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+            .collect(Collectors.toList());
+    }
+
+    private void assertError(final String source, final String message) throws IOException {
+        final List<String> errors = PacketCodecProcessorTest.errors(this.compile("test.Invalid", source));
+        Assertions.assertTrue(errors.stream().anyMatch(error -> error.contains(message)), () -> "Expected an error containing '" + message
+            + "', got " + errors);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRoundTrip() throws Exception {
+        Assertions.assertEquals(List.of(), PacketCodecProcessorTest.errors(this.compile("test.Sample", PacketCodecProcessorTest.SAMPLE)));
+        try (final URLClassLoader loader = new URLClassLoader(new URL[] {this.output.toUri().toURL()}, this.getClass().getClassLoader())) {
+            final Class<? extends Record> sample = (Class<? extends Record>) loader.loadClass("test.Sample");
+            final Class<? extends Record> inner = (Class<? extends Record>) loader.loadClass("test.Sample$Inner");
+            final Class<?> mode = loader.loadClass("test.Sample$Mode");
+            final Record innerValue = inner.getConstructor(long.class, List.class).newInstance(-3L, List.of("a", "\u00fc"));
+            final Record value = (Record) sample.getConstructors()[0].newInstance(-1, Long.MIN_VALUE, true, (short) 300, 0.25, "name",
+                new UUID(1, 2), new byte[] {1, 2, 3}, mode.getEnumConstants()[1], List.of(Integer.MAX_VALUE, -1), Optional.empty(),
+                Optional.of(innerValue));
+
+            final PacketCodec<Record> codec = (PacketCodec<Record>) (PacketCodec<?>) PacketCodec.find(sample).orElseThrow();
+            final ChannelBuf buf = PacketCodecProcessorTest.buffer();
+            codec.write(buf, value);
+            final Record read = codec.read(buf);
+            Assertions.assertEquals(0, buf.available());
+            for (final RecordComponent component : sample.getRecordComponents()) {
+                final Object expected = component.getAccessor().invoke(value);
+                final Object actual = component.getAccessor().invoke(read);
+                if (expected instanceof byte[]) {
+                    Assertions.assertArrayEquals((byte[]) expected, (byte[]) actual, component.getName());
+                } else {
+                    Assertions.assertEquals(expected, actual, component.getName());
+                }
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMaxLength() throws Exception {
+        Assertions.assertEquals(List.of(), PacketCodecProcessorTest.errors(this.compile("test.Sample", PacketCodecProcessorTest.SAMPLE)));
+        try (final URLClassLoader loader = new URLClassLoader(new URL[] {this.output.toUri().toURL()}, this.getClass().getClassLoader())) {
+            final Class<? extends Record> sample = (Class<? extends Record>) loader.loadClass("test.Sample");
+            final PacketCodec<Record> codec = (PacketCodec<Record>) (PacketCodec<?>) PacketCodec.find(sample).orElseThrow();
+            final ChannelBuf buf = PacketCodecProcessorTest.buffer();
+            buf.writeVarInt(1).writeLong(2).writeBoolean(false).writeShort((short) 3).writeDouble(4).writeString("a name that is too long");
+            Assertions.assertThrows(ChannelIOException.class, () -> codec.read(buf));
+        }
+    }
+
+    @Test
+    void testPartlyAnnotated() throws IOException {
+        this.assertError(String.join("\n",
+            "package test;",
+            "public record Invalid(@org.spongepowered.api.network.channel.packet.PacketField int first, int second) {",
+            "}"), "must be annotated");
+    }
+
+    @Test
+    void testBoxedComponent() throws IOException {
+        this.assertError(String.join("\n",
+            "package test;",
+            "public record Invalid(@org.spongepowered.api.network.channel.packet.PacketField Integer value) {",
+            "}"), "Boxed primitives are only supported as elements of lists and optionals");
+    }
+
+    @Test
+    void testFixedWidthMisuse() throws IOException {
+        this.assertError(String.join("\n",
+            "package test;",
+            "public record Invalid(@org.spongepowered.api.network.channel.packet.PacketField(fixedWidth = true) String value) {",
+            "}"), "fixedWidth is only supported on int and long components");
+        this.assertError(String.join("\n",
+            "package test;",
+            "public record Invalid(@org.spongepowered.api.network.channel.packet.PacketField(fixedWidth = true) short value) {",
+            "}"), "fixedWidth is only supported on int and long components");
+    }
+
+    /**
+     * Creates a buffer supporting the operations generated codecs use.
+     */
+    private static ChannelBuf buffer() {
+        return mock(ChannelBuf.class, new BufferAnswer());
+    }
+
+    private static final class BufferAnswer implements Answer<Object> {
+
+        private final ByteBuffer data = ByteBuffer.allocate(1024);
+        private int reader;
+
+        @Override
+        public Object answer(final InvocationOnMock invocation) {
+            switch (invocation.getMethod().getName()) {
+                case "available":
+                    return this.data.position() - this.reader;
+                case "writeBoolean":
+                    this.data.put((byte) (invocation.<Boolean>getArgument(0) ? 1 : 0));
+                    return invocation.getMock();
+                case "writeShort":
+                    this.data.putShort(invocation.getArgument(0));
+                    return invocation.getMock();
+                case "writeInt":
+                    this.data.putInt(invocation.getArgument(0));
+                    return invocation.getMock();
+                case "writeLong":
+                    this.data.putLong(invocation.getArgument(0));
+                    return invocation.getMock();
+                case "writeDouble":
+                    this.data.putDouble(invocation.getArgument(0));
+                    return invocation.getMock();
+                case "writeVarInt":
+                    this.writeVarLong(invocation.<Integer>getArgument(0) & 0xFFFFFFFFL);
+                    return invocation.getMock();
+                case "writeVarLong":
+                    this.writeVarLong(invocation.getArgument(0));
+                    return invocation.getMock();
+                case "writeString":
+                    this.writeByteArray(invocation.<String>getArgument(0).getBytes(StandardCharsets.UTF_8));
+                    return invocation.getMock();
+                case "writeByteArray":
+                    this.writeByteArray(invocation.getArgument(0));
+                    return invocation.getMock();
+                case "writeUniqueId":
+                    this.data.putLong(invocation.<UUID>getArgument(0).getMostSignificantBits());
+                    this.data.putLong(invocation.<UUID>getArgument(0).getLeastSignificantBits());
+                    return invocation.getMock();
+                case "readBoolean":
+                    return this.read(1).get() != 0;
+                case "readShort":
+                    return this.read(2).getShort();
+                case "readInt":
+                    return this.read(4).getInt();
+                case "readLong":
+                    return this.read(8).getLong();
+                case "readDouble":
+                    return this.read(8).getDouble();
+                case "readVarInt":
+                    return (int) this.readVarLong();
+                case "readVarLong":
+                    return this.readVarLong();
+                case "readBytes": {
+                    final byte[] bytes = new byte[invocation.<Integer>getArgument(0)];
+                    this.read(bytes.length).get(bytes);
+                    return bytes;
+                }
+                case "readCharSequence": {
+                    final int length = invocation.getArgument(0);
+                    final ByteBuffer bytes = this.read(length);
+                    return new String(bytes.array(), bytes.position(), length, invocation.<Charset>getArgument(1));
+                }
+                case "readUniqueId": {
+                    final ByteBuffer bytes = this.read(16);
+                    return new UUID(bytes.getLong(), bytes.getLong());
+                }
+                default:
+                    throw new UnsupportedOperationException(invocation.getMethod().toString());
+            }
+        }
+
+        private void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                this.data.put((byte) (value & 0x7F | 0x80));
+                value >>>= 7;
+            }
+            this.data.put((byte) value);
+        }
+
+        private void writeByteArray(final byte[] bytes) {
+            this.writeVarLong(bytes.length);
+            this.data.put(bytes);
+        }
+
+        private ByteBuffer read(final int length) {
+            if (length > this.data.position() - this.reader) {
+                throw new IndexOutOfBoundsException("Only " + (this.data.position() - this.reader) + " bytes are available");
+            }
+            final ByteBuffer bytes = ByteBuffer.wrap(this.data.array(), this.reader, length);
+            this.reader += length;
+            return bytes;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = this.read(1).get();
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+    }
+
+}